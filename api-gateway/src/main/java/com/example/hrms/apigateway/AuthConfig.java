@@ -0,0 +1,146 @@
+package com.example.hrms.apigateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class AuthConfig {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = VerifiedToken.class.getName();
+
+    private static final String BEARER = "Bearer ";
+    private static final String ACCESS_TOKEN_PARAM = "access_token";
+
+    @Value("${hrms.auth.token-secret}")
+    private String tokenSecret;
+
+    // Requests without a token are rejected outside the public paths; a presented token is always verified
+    @Value("${hrms.gateway.auth.required:true}")
+    private boolean required;
+
+    // Exact paths, or a path followed by sub-paths; preflights are always let through
+    @Value("${hrms.gateway.auth.public-paths:/auth/login,/actuator/health}")
+    private List<String> publicPaths;
+
+    // EventSource cannot set headers, so only these SSE feeds accept the token as ?access_token=
+    @Value("${hrms.gateway.auth.query-token-paths:/attendance/feed}")
+    private List<String> queryTokenPaths;
+
+    @Value("${hrms.gateway.auth.cache-ttl:30s}")
+    private Duration cacheTtl;
+
+    @Value("${hrms.gateway.auth.cache-size:50000}")
+    private long cacheSize;
+
+    @Bean
+    public TokenVerifier tokenVerifier(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        if (tokenSecret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("hrms.auth.token-secret must be at least 32 bytes");
+        }
+        return new TokenVerifier(tokenSecret, cacheTtl, cacheSize, objectMapper, meterRegistry);
+    }
+
+    // After CORS so 401s stay readable by the browser, before rate limiting so buckets key on the verified user
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public WebFilter authFilter(TokenVerifier tokenVerifier) {
+        return (ServerWebExchange exchange, WebFilterChain chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            String queryToken = queryTokenPaths.contains(request.getPath().value())
+                    ? request.getQueryParams().getFirst(ACCESS_TOKEN_PARAM) : null;
+            if (authorization == null && queryToken != null) {
+                authorization = BEARER + queryToken;
+            }
+            if (request.getQueryParams().containsKey(ACCESS_TOKEN_PARAM)) {
+                // Never forwarded, so the token stays out of upstream URIs and their access logs
+                request = withoutQueryToken(request);
+                exchange = exchange.mutate().request(request).build();
+            }
+            boolean identityHeadersPresent = request.getHeaders().containsKey(USER_ID_HEADER)
+                    || request.getHeaders().containsKey(USER_ROLE_HEADER);
+
+            if (authorization == null || !authorization.startsWith(BEARER)) {
+                if (required && request.getMethod() != HttpMethod.OPTIONS && !isPublic(request.getPath().value())) {
+                    return unauthorized(exchange.getResponse());
+                }
+                // Identity headers are only ever set by this filter
+                return chain.filter(identityHeadersPresent ? stripIdentity(exchange) : exchange);
+            }
+
+            VerifiedToken token = tokenVerifier.verify(authorization.substring(BEARER.length()),
+                    System.currentTimeMillis() / 1000);
+            if (token == null) {
+                return unauthorized(exchange.getResponse());
+            }
+
+            exchange.getAttributes().put(VERIFIED_TOKEN_ATTRIBUTE, token);
+            ServerHttpRequest authenticated = request.mutate()
+                    .headers(headers -> {
+                        headers.set(USER_ID_HEADER, token.subject());
+                        if (token.role() != null) {
+                            headers.set(USER_ROLE_HEADER, token.role());
+                        } else {
+                            headers.remove(USER_ROLE_HEADER);
+                        }
+                    })
+                    .build();
+            return chain.filter(exchange.mutate().request(authenticated).build());
+        };
+    }
+
+    private boolean isPublic(String path) {
+        for (String publicPath : publicPaths) {
+            if (path.equals(publicPath) || path.startsWith(publicPath + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ServerHttpRequest withoutQueryToken(ServerHttpRequest request) {
+        URI uri = UriComponentsBuilder.fromUri(request.getURI())
+                .replaceQueryParam(ACCESS_TOKEN_PARAM)
+                .build(true)
+                .toUri();
+        return request.mutate().uri(uri).build();
+    }
+
+    private static ServerWebExchange stripIdentity(ServerWebExchange exchange) {
+        ServerHttpRequest stripped = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_ROLE_HEADER);
+                })
+                .build();
+        return exchange.mutate().request(stripped).build();
+    }
+
+    private static Mono<Void> unauthorized(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return response.setComplete();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.hrms.apigateway;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -13,40 +14,76 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 
+import java.util.List;
+
 @Configuration
 public class CorsConfig {
 
+    @Value("${hrms.gateway.cors.allowed-origins:http://localhost:3000,http://localhost:3001}")
+    private List<String> allowedOrigins;
+
+    @Value("${hrms.gateway.cors.allowed-origin-patterns:}")
+    private List<String> allowedOriginPatterns;
+
+    @Value("${hrms.gateway.cors.allowed-methods:GET, POST, PUT, DELETE, OPTIONS, PATCH, HEAD}")
+    private String allowedMethods;
+
+    // Listed rather than "*": the wildcard never covers Authorization
+    @Value("${hrms.gateway.cors.allowed-headers:Authorization, Content-Type, Accept, If-None-Match, Last-Event-ID, X-Requested-With}")
+    private String allowedHeaders;
+
+    @Value("${hrms.gateway.cors.exposed-headers:*}")
+    private String exposedHeaders;
+
+    @Value("${hrms.gateway.cors.max-age:3600}")
+    private long maxAge;
+
+    @Bean
+    public CorsPolicy corsPolicy() {
+        return new CorsPolicy(allowedOrigins, allowedOriginPatterns);
+    }
+
     @Bean
     @Order(Ordered.HIGHEST_PRECEDENCE)
-    public WebFilter corsFilter() {
+    public WebFilter corsFilter(CorsPolicy corsPolicy) {
+        // Header values never change at runtime, so build them once
+        List<String> methodsValue = List.of(allowedMethods);
+        List<String> headersValue = List.of(allowedHeaders);
+        List<String> exposeValue = List.of(exposedHeaders);
+        List<String> maxAgeValue = List.of(String.valueOf(maxAge));
+        List<String> varyValue = List.of(HttpHeaders.ORIGIN);
+
         return (ServerWebExchange exchange, WebFilterChain chain) -> {
             ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
             String origin = request.getHeaders().getFirst(HttpHeaders.ORIGIN);
+            if (origin == null) {
+                return chain.filter(exchange);
+            }
 
-            // Add CORS headers to all responses
-            if (origin != null && (origin.contains("localhost:3000") || origin.contains("localhost:3001"))) {
-                HttpHeaders headers = response.getHeaders();
-                
-                // Remove any existing CORS headers first to avoid duplicates
-                headers.remove(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN);
-                headers.remove(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS);
-                headers.remove(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS);
-                headers.remove(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS);
-                headers.remove(HttpHeaders.ACCESS_CONTROL_MAX_AGE);
-                
-                // Now set the CORS headers (only once)
-                headers.set(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
-                headers.set(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, "GET, POST, PUT, DELETE, OPTIONS, PATCH, HEAD");
-                headers.set(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, "*");
-                headers.set(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "*");
-                headers.set(HttpHeaders.ACCESS_CONTROL_MAX_AGE, "3600");
-
-                // Handle preflight OPTIONS requests
-                if (request.getMethod() == HttpMethod.OPTIONS) {
-                    response.setStatusCode(HttpStatus.OK);
+            ServerHttpResponse response = exchange.getResponse();
+            boolean preflight = request.getMethod() == HttpMethod.OPTIONS
+                    && request.getHeaders().containsKey(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+            if (!corsPolicy.isAllowed(origin)) {
+                if (preflight) {
+                    response.setStatusCode(HttpStatus.FORBIDDEN);
                     return response.setComplete();
                 }
+                return chain.filter(exchange);
+            }
+
+            // put() replaces any value a downstream service adds, so headers are never duplicated
+            HttpHeaders headers = response.getHeaders();
+            headers.put(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, List.of(origin));
+            headers.put(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, methodsValue);
+            headers.put(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, headersValue);
+            headers.put(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, exposeValue);
+            headers.put(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAgeValue);
+            headers.put(HttpHeaders.VARY, varyValue);
+
+            // Preflights are answered here and never reach routing, rate limiting or a downstream service
+            if (preflight) {
+                response.setStatusCode(HttpStatus.OK);
+                return response.setComplete();
             }
 
             return chain.filter(exchange);
@@ -0,0 +1,71 @@
+package com.example.hrms.apigateway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Origin allow-list compiled once from configuration. Exact origins are a hash lookup;
+ * wildcard patterns ("*" matches any run of characters) are compiled to regexes and their
+ * verdicts memoised per origin, so steady-state matching does not allocate.
+ */
+public class CorsPolicy {
+    private static final int MAX_MEMOISED_ORIGINS = 1_000;
+
+    private final Set<String> exactOrigins;
+    private final List<Pattern> originPatterns;
+    private final ConcurrentHashMap<String, Boolean> patternVerdicts = new ConcurrentHashMap<>();
+
+    public CorsPolicy(List<String> exactOrigins, List<String> originPatterns) {
+        this.exactOrigins = Set.copyOf(exactOrigins.stream().map(String::trim).filter(s -> !s.isEmpty()).toList());
+        List<Pattern> compiled = new ArrayList<>();
+        for (String pattern : originPatterns) {
+            String trimmed = pattern.trim();
+            if (!trimmed.isEmpty()) {
+                compiled.add(Pattern.compile(toRegex(trimmed)));
+            }
+        }
+        this.originPatterns = List.copyOf(compiled);
+    }
+
+    public boolean isAllowed(String origin) {
+        if (exactOrigins.contains(origin)) {
+            return true;
+        }
+        if (originPatterns.isEmpty()) {
+            return false;
+        }
+        Boolean verdict = patternVerdicts.get(origin);
+        if (verdict != null) {
+            return verdict;
+        }
+        boolean allowed = matchesPattern(origin);
+        // Origins are client-controlled, so only remember a bounded number of them
+        if (patternVerdicts.size() < MAX_MEMOISED_ORIGINS) {
+            patternVerdicts.put(origin, allowed);
+        }
+        return allowed;
+    }
+
+    private boolean matchesPattern(String origin) {
+        for (Pattern pattern : originPatterns) {
+            if (pattern.matcher(origin).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toRegex(String wildcard) {
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+        int star;
+        while ((star = wildcard.indexOf('*', start)) >= 0) {
+            regex.append(Pattern.quote(wildcard.substring(start, star))).append("[^/]*");
+            start = star + 1;
+        }
+        return regex.append(Pattern.quote(wildcard.substring(start))).toString();
+    }
+}
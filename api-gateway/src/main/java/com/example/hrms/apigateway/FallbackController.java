@@ -0,0 +1,24 @@
+package com.example.hrms.apigateway;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/fallback")
+public class FallbackController {
+
+    // Target of the circuit breakers' forward:/fallback/{service}; answers immediately while a breaker is open
+    @RequestMapping("/{service}")
+    public ResponseEntity<Map<String, String>> fallback(@PathVariable String service) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header("Retry-After", "5")
+            .body(Map.of(
+                "service", service,
+                "error", service + " is unavailable, please retry shortly"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.hrms.apigateway;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the instance with the fewest requests in flight, so one slow instance stops
+ * receiving new work instead of queuing a round-robin share of it. Ties are broken
+ * from a random starting point to avoid every gateway thread piling onto the first one.
+ */
+public class LeastOutstandingLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final OutstandingRequestTracker tracker;
+
+    public LeastOutstandingLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                        OutstandingRequestTracker tracker) {
+        this.supplierProvider = supplierProvider;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        int size = instances.size();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        ServiceInstance best = null;
+        int bestCount = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            ServiceInstance candidate = instances.get((start + i) % size);
+            int count = tracker.outstanding(candidate);
+            if (count < bestCount) {
+                best = candidate;
+                bestCount = count;
+            }
+        }
+        return new DefaultResponse(best);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.hrms.apigateway;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LoadBalancerConfig.LeastOutstandingConfiguration.class)
+public class LoadBalancerConfig {
+
+    // Registered in each per-service load-balancer context; deliberately not a @Configuration
+    static class LeastOutstandingConfiguration {
+
+        @Bean
+        public ReactorLoadBalancer<ServiceInstance> leastOutstandingLoadBalancer(
+                Environment environment, LoadBalancerClientFactory clientFactory, OutstandingRequestTracker tracker) {
+            String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+            return new LeastOutstandingLoadBalancer(
+                    clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), tracker);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.hrms.apigateway;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks an exponentially weighted moving average of downstream latency per route. Above the
+ * threshold, low-priority GETs to that route are shed; above twice the threshold, every GET is.
+ * Writes are never shed here.
+ *
+ * <p>The average decays towards zero with wall-clock time, and while a route is shedding one probe
+ * request per {@code probeInterval} is still let through to measure it, so a route recovers on its
+ * own once the service behind it is fast again, even if only GETs arrive.
+ *
+ * <p>Every request through the gateway reads this state, so it takes no locks: each route's
+ * average is an immutable sample swapped by CAS, like {@link TokenBucket}.
+ */
+public class LoadShedder {
+    private static final double ALPHA = 0.1;
+    // The route key comes from the request path, so cap how many averages (and gauges) can exist
+    private static final int MAX_ROUTES = 100;
+
+    private final long thresholdNanos;
+    private final double decayNanos;
+    private final long probeIntervalNanos;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    /**
+     * @param decayMillis         time constant of the decay: with no new samples the average falls
+     *                            to about a third of its value after this long
+     * @param probeIntervalMillis gap between probe requests let through while a route is shedding
+     */
+    public LoadShedder(long thresholdMillis, long decayMillis, long probeIntervalMillis, MeterRegistry meterRegistry) {
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+        this.decayNanos = Math.max(1, decayMillis) * 1_000_000.0;
+        this.probeIntervalNanos = probeIntervalMillis * 1_000_000L;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String route, long latencyNanos) {
+        Route state = routes.get(route);
+        if (state == null) {
+            if (routes.size() >= MAX_ROUTES) {
+                return;
+            }
+            state = routes.computeIfAbsent(route, Route::new);
+        }
+        state.record(latencyNanos, System.nanoTime());
+    }
+
+    public boolean shouldShed(String route, boolean lowPriority) {
+        Route state = routes.get(route);
+        return state != null && state.shouldShed(lowPriority, System.nanoTime());
+    }
+
+    public double averageLatencyNanos(String route) {
+        Route state = routes.get(route);
+        return state == null ? 0 : state.average(System.nanoTime());
+    }
+
+    // Average and the time it was last updated, swapped together so neither is read half-updated
+    private record Sample(double average, long updatedAt) {}
+
+    /** Lock-free per-route state: requests only ever read or compare-and-set the atomics. */
+    private final class Route {
+        private final AtomicReference<Sample> sample = new AtomicReference<>(new Sample(0, 0));
+        // Long.MIN_VALUE until the first probe, so the first request over the threshold is a probe
+        private final AtomicLong lastProbeAt = new AtomicLong(Long.MIN_VALUE);
+
+        Route(String name) {
+            Gauge.builder("gateway.downstream.latency.ewma", this, r -> r.average(System.nanoTime()) / 1_000_000.0)
+                    .baseUnit("milliseconds")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+
+        void record(long latencyNanos, long now) {
+            while (true) {
+                Sample current = sample.get();
+                // The first sample only moves the average by ALPHA, so one slow cold start cannot trip shedding
+                double decayed = decay(current, now);
+                if (sample.compareAndSet(current, new Sample(decayed + ALPHA * (latencyNanos - decayed), now))) {
+                    return;
+                }
+            }
+        }
+
+        boolean shouldShed(boolean lowPriority, long now) {
+            double current = average(now);
+            boolean shed = current > 2.0 * thresholdNanos || (lowPriority && current > thresholdNanos);
+            if (!shed) {
+                return false;
+            }
+            long last = lastProbeAt.get();
+            boolean probeDue = last == Long.MIN_VALUE || now - last >= probeIntervalNanos;
+            // Only the request that wins the CAS is the probe; the others racing it are shed
+            return !(probeDue && lastProbeAt.compareAndSet(last, now));
+        }
+
+        double average(long now) {
+            return decay(sample.get(), now);
+        }
+
+        private double decay(Sample current, long now) {
+            if (current.average() == 0) {
+                return 0;
+            }
+            return current.average() * Math.exp(-(now - current.updatedAt()) / decayNanos);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.hrms.apigateway;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts requests in flight per service instance. The gateway's load-balancer filter
+ * reports every start and completion here, and {@link LeastOutstandingLoadBalancer}
+ * reads the counts to pick the least busy instance.
+ */
+@Component
+public class OutstandingRequestTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+    private final Map<String, AtomicInteger> outstanding = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            counter(lbResponse.getServer()).incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse != null && lbResponse.hasServer()) {
+            counter(lbResponse.getServer()).updateAndGet(count -> Math.max(count - 1, 0));
+        }
+    }
+
+    public int outstanding(ServiceInstance instance) {
+        AtomicInteger count = outstanding.get(key(instance));
+        return count == null ? 0 : count.get();
+    }
+
+    private AtomicInteger counter(ServiceInstance instance) {
+        return outstanding.computeIfAbsent(key(instance), k -> new AtomicInteger());
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.hrms.apigateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${hrms.gateway.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hrms.gateway.rate-limit.client.permits-per-second:50}")
+    private double clientPermitsPerSecond;
+
+    @Value("${hrms.gateway.rate-limit.client.burst:100}")
+    private int clientBurst;
+
+    @Value("${hrms.gateway.rate-limit.route.permits-per-second:500}")
+    private double routePermitsPerSecond;
+
+    @Value("${hrms.gateway.rate-limit.route.burst:1000}")
+    private int routeBurst;
+
+    @Value("${hrms.gateway.rate-limit.trusted-proxies:}")
+    private List<String> trustedProxies;
+
+    @Value("${hrms.gateway.shedding.latency-threshold-ms:1000}")
+    private long sheddingThresholdMillis;
+
+    @Value("${hrms.gateway.shedding.decay:10s}")
+    private Duration sheddingDecay;
+
+    @Value("${hrms.gateway.shedding.probe-interval:1s}")
+    private Duration sheddingProbeInterval;
+
+    @Value("${hrms.gateway.shedding.low-priority-suffixes:/stream,/enriched}")
+    private List<String> lowPrioritySuffixes;
+
+    // Runs after corsFilter and authFilter, so rejections still carry CORS headers and buckets key on the verified user
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    public WebFilter rateLimitFilter(MeterRegistry meterRegistry) {
+        Cache<String, TokenBucket> clientBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        Cache<String, TokenBucket> routeBuckets = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .build();
+        TrustedProxies proxies = new TrustedProxies(trustedProxies);
+        LoadShedder shedder = new LoadShedder(sheddingThresholdMillis, sheddingDecay.toMillis(),
+                sheddingProbeInterval.toMillis(), meterRegistry);
+        Counter rateLimited = meterRegistry.counter("gateway.requests.rejected", "reason", "rate_limit");
+        Counter shed = meterRegistry.counter("gateway.requests.rejected", "reason", "load_shed");
+
+        return (ServerWebExchange exchange, WebFilterChain chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!enabled || request.getMethod() == HttpMethod.OPTIONS) {
+                return chain.filter(exchange);
+            }
+            String path = request.getPath().value();
+            if (path.startsWith("/actuator") || path.startsWith("/fallback")) {
+                return chain.filter(exchange);
+            }
+
+            String route = routeKey(path);
+            if (request.getMethod() == HttpMethod.GET && shedder.shouldShed(route, isLowPriority(path))) {
+                shed.increment();
+                return reject(exchange.getResponse(), HttpStatus.SERVICE_UNAVAILABLE, 1);
+            }
+
+            long now = System.nanoTime();
+            long clientWait = clientBuckets.get(clientKey(exchange, proxies),
+                    k -> new TokenBucket(clientPermitsPerSecond, clientBurst)).tryAcquire(now);
+            long wait = clientWait > 0 ? clientWait : routeBuckets.get(route,
+                    k -> new TokenBucket(routePermitsPerSecond, routeBurst)).tryAcquire(now);
+            if (wait > 0) {
+                rateLimited.increment();
+                return reject(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS,
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L)));
+            }
+
+            // Long-lived streams say nothing about downstream latency and would swamp the average
+            if (StreamingPaths.isStreaming(path)) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange).doFinally(signal -> {
+                if (reachedUpstream(exchange)) {
+                    shedder.record(route, System.nanoTime() - now);
+                }
+            });
+        };
+    }
+
+    // Cache hits and 429s are answered without the service doing any work, so they say nothing about its latency
+    private static boolean reachedUpstream(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return exchange.getAttribute(ResponseCacheFilter.SERVED_FROM_CACHE_ATTRIBUTE) == null
+                && (status == null || status.value() != HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    private boolean isLowPriority(String path) {
+        // Whole-collection reads are the most expensive and the easiest for a client to retry
+        if (path.indexOf('/', 1) < 0) {
+            return true;
+        }
+        for (String suffix : lowPrioritySuffixes) {
+            if (path.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // X-Forwarded-For is client-controlled, so it only counts when it arrives through a trusted proxy
+    private static String clientKey(ServerWebExchange exchange, TrustedProxies proxies) {
+        VerifiedToken token = exchange.getAttribute(AuthConfig.VERIFIED_TOKEN_ATTRIBUTE);
+        if (token != null) {
+            return "user:" + token.subject();
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        String address = proxies.clientAddress(request.getRemoteAddress(),
+                String.join(",", request.getHeaders().getOrEmpty("X-Forwarded-For")));
+        return address == null ? "unknown" : address;
+    }
+
+    private static String routeKey(String path) {
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path : path.substring(0, end);
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status, long retryAfterSeconds) {
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return response.setComplete();
+    }
+}
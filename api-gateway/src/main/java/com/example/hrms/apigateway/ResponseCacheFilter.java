@@ -0,0 +1,278 @@
+package com.example.hrms.apigateway;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived response cache with single-flight for hot GET routes. Concurrent identical
+ * GETs (same path, query and Authorization) share one upstream call; its 200 response is
+ * kept for a few seconds. Any POST/PUT/PATCH/DELETE under a cached prefix drops that
+ * prefix's entries, both when it is forwarded and again when its response completes, and a GET
+ * that was in flight while a write ran is served but not cached.
+ *
+ * <p>Bodies are copied as they stream through rather than buffered first; once a body passes
+ * {@code max-body-bytes} (or declares a larger Content-Length) the copy is dropped and the
+ * response is simply passed on.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    /** Set on exchanges answered from the gateway cache, which never reached the service. */
+    public static final String SERVED_FROM_CACHE_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".served";
+
+    // Must wrap the response before NettyWriteResponseFilter writes the upstream body
+    private static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    private final boolean enabled;
+    private final List<String> prefixes;
+    private final int maxBodyBytes;
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    // Bumped at the start and end of every write under a prefix
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public ResponseCacheFilter(
+            @Value("${hrms.gateway.cache.enabled:true}") boolean enabled,
+            @Value("${hrms.gateway.cache.paths:/employees,/payroll,/attendance}") List<String> prefixes,
+            @Value("${hrms.gateway.cache.ttl:5s}") Duration ttl,
+            @Value("${hrms.gateway.cache.max-entries:2000}") long maxEntries,
+            @Value("${hrms.gateway.cache.max-body-bytes:1048576}") int maxBodyBytes,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.prefixes = prefixes;
+        this.maxBodyBytes = maxBodyBytes;
+        prefixes.forEach(prefix -> generations.put(prefix, new AtomicLong()));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-responses");
+        this.hits = meterRegistry.counter("gateway.response.cache", "result", "hit");
+        this.misses = meterRegistry.counter("gateway.response.cache", "result", "miss");
+        this.coalesced = meterRegistry.counter("gateway.response.cache", "result", "coalesced");
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String prefix = enabled ? matchPrefix(request.getPath().value()) : null;
+        if (prefix == null) {
+            return chain.filter(exchange);
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            invalidate(prefix);
+            // GETs that reached the service before this write committed may have been cached since
+            return chain.filter(exchange).doFinally(signal -> invalidate(prefix));
+        }
+        if (StreamingPaths.isStreaming(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            exchange.getAttributes().put(SERVED_FROM_CACHE_ATTRIBUTE, true);
+            return cached.writeTo(exchange);
+        }
+
+        CompletableFuture<CachedResponse> leader = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.increment();
+            // If the leader's response could not be shared, go upstream independently
+            return Mono.fromFuture(existing)
+                    .flatMap(response -> {
+                        exchange.getAttributes().put(SERVED_FROM_CACHE_ATTRIBUTE, true);
+                        return response.writeTo(exchange);
+                    })
+                    .onErrorResume(e -> chain.filter(exchange));
+        }
+
+        misses.increment();
+        // Always fetch a full body upstream; conditional requests are answered from the shared copy
+        ServerHttpRequest upstreamRequest = request.mutate()
+                .headers(headers -> headers.remove(HttpHeaders.IF_NONE_MATCH))
+                .build();
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse(), key, leader,
+                prefix, generations.get(prefix).get());
+        return chain.filter(exchange.mutate().request(upstreamRequest).response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, leader);
+                    if (!leader.isDone()) {
+                        leader.completeExceptionally(new IllegalStateException("Upstream response not captured"));
+                    }
+                });
+    }
+
+    private String matchPrefix(String path) {
+        for (String prefix : prefixes) {
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private void invalidate(String prefix) {
+        generations.get(prefix).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix + "/")
+                || key.startsWith(prefix + "?") || key.startsWith(prefix + "|"));
+    }
+
+    private static String cacheKey(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String principal = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return request.getPath().value()
+                + (query == null ? "" : "?" + query)
+                + "|" + (principal == null ? "" : principal);
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        Mono<Void> writeTo(ServerWebExchange exchange) {
+            ServerHttpResponse response = exchange.getResponse();
+            String eTag = headers.getETag();
+            String ifNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+            if (eTag != null && eTag.equals(ifNoneMatch)) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                response.getHeaders().setETag(eTag);
+                return response.setComplete();
+            }
+            response.setStatusCode(status);
+            headers.forEach((name, values) -> {
+                if (!response.getHeaders().containsKey(name)) {
+                    response.getHeaders().put(name, values);
+                }
+            });
+            response.getHeaders().setContentLength(body.length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }
+    }
+
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+        private final String key;
+        private final CompletableFuture<CachedResponse> leader;
+        private final String prefix;
+        private final long generation;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, CompletableFuture<CachedResponse> leader,
+                          String prefix, long generation) {
+            super(delegate);
+            this.key = key;
+            this.leader = leader;
+            this.prefix = prefix;
+            this.generation = generation;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long contentLength = getHeaders().getContentLength();
+            if (contentLength > maxBodyBytes) {
+                tooLarge();
+                return super.writeWith(body);
+            }
+            ByteArrayOutputStream copy = new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 1024);
+            Flux<DataBuffer> teed = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        if (leader.isDone()) {
+                            return;
+                        }
+                        int length = buffer.readableByteCount();
+                        if (copy.size() + length > maxBodyBytes) {
+                            copy.reset();
+                            tooLarge();
+                            return;
+                        }
+                        // Copy without moving the read position the downstream write uses
+                        int position = buffer.readPosition();
+                        byte[] bytes = new byte[length];
+                        buffer.read(bytes);
+                        buffer.readPosition(position);
+                        copy.writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        if (!leader.isDone()) {
+                            capture(copy.toByteArray());
+                        }
+                    });
+            return super.writeWith(teed);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(part -> part));
+        }
+
+        private void capture(byte[] bytes) {
+            HttpStatusCode status = getStatusCode() == null ? HttpStatus.OK : getStatusCode();
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                if (isReplayable(name)) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            CachedResponse response = new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), bytes);
+            AtomicLong current = generations.get(prefix);
+            if (status.value() == HttpStatus.OK.value() && current.get() == generation) {
+                cache.put(key, response);
+                // A write may have finished between the check and the put
+                if (current.get() != generation) {
+                    cache.invalidate(key);
+                }
+            }
+            leader.complete(response);
+        }
+
+        private void tooLarge() {
+            leader.completeExceptionally(new IllegalStateException("Response too large to share"));
+        }
+    }
+
+    private static boolean isReplayable(String header) {
+        // CORS headers are set per request by corsFilter; framing headers are recomputed on write
+        return !header.regionMatches(true, 0, "Access-Control-", 0, 15)
+                && !header.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                && !header.equalsIgnoreCase(HttpHeaders.TRANSFER_ENCODING)
+                && !header.equalsIgnoreCase(HttpHeaders.CONNECTION)
+                && !header.equalsIgnoreCase(HttpHeaders.SET_COOKIE);
+    }
+}
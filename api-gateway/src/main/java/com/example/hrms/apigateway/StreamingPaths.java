@@ -0,0 +1,13 @@
+package com.example.hrms.apigateway;
+
+/**
+ * Routes whose responses are long-lived or unbounded streams. They must not be buffered by the
+ * response cache, and their durations say nothing about downstream latency.
+ */
+final class StreamingPaths {
+    private StreamingPaths() {}
+
+    static boolean isStreaming(String path) {
+        return path.endsWith("/stream") || path.endsWith("/feed") || path.endsWith("/export");
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hrms.apigateway;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in GCRA form: the whole state is one "theoretical arrival time"
+ * updated with a single CAS, so there is no refill thread and no lock on the hot path.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(burst - 1, 0);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /** Returns 0 when a permit was taken, otherwise the nanoseconds until one is available. */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long earliest = tat - burstToleranceNanos;
+            if (nowNanos < earliest) {
+                return earliest - nowNanos;
+            }
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.hrms.apigateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Verifies the HS256 tokens issued by user-service with a key built once at startup. Valid
+ * results are cached for a short time, so a repeat request costs one hash lookup plus an
+ * expiry check; failures are not cached.
+ */
+public class TokenVerifier {
+    private static final String EXPECTED_HEADER =
+            Base64.getUrlEncoder().withoutPadding().encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final SecretKeySpec key;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, VerifiedToken> verified;
+
+    // Mac is not thread-safe; one per event-loop thread avoids both locking and per-request lookups
+    private final ThreadLocal<Mac> macs;
+
+    public TokenVerifier(String secret, Duration cacheTtl, long cacheSize, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.objectMapper = objectMapper;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "gateway-tokens");
+    }
+
+    /** Returns the claims, or null when the token is malformed, forged or expired. */
+    public VerifiedToken verify(String token, long nowEpochSecond) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached != null) {
+            return cached.isExpired(nowEpochSecond) ? null : cached;
+        }
+
+        VerifiedToken parsed = parse(token);
+        if (parsed == null || parsed.isExpired(nowEpochSecond)) {
+            return null;
+        }
+        verified.put(token, parsed);
+        return parsed;
+    }
+
+    private VerifiedToken parse(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        // Only the exact header user-service emits is accepted, which rules out alg=none and friends
+        if (!EXPECTED_HEADER.equals(token.substring(0, firstDot))) {
+            return null;
+        }
+
+        try {
+            byte[] expected = macs.get().doFinal(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+            byte[] actual = Base64.getUrlDecoder().decode(token.substring(secondDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(firstDot + 1, secondDot)));
+            JsonNode subject = claims.get("sub");
+            JsonNode expiry = claims.get("exp");
+            if (subject == null || expiry == null || !expiry.canConvertToLong()) {
+                return null;
+            }
+            JsonNode role = claims.get("role");
+            return new VerifiedToken(subject.asText(), role == null ? null : role.asText(), expiry.asLong());
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.hrms.apigateway;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Works out which address a request really came from. {@code X-Forwarded-For} is set by the
+ * client unless a proxy in front of the gateway overwrites it, so it is only read when the peer
+ * is a configured proxy, and then from the right: the first hop that is not a trusted proxy is
+ * the client. Entries are IP addresses or CIDR ranges ({@code 10.0.0.0/8}).
+ */
+public class TrustedProxies {
+    private final List<Range> ranges = new ArrayList<>();
+
+    public TrustedProxies(List<String> entries) {
+        for (String entry : entries) {
+            String trimmed = entry.trim();
+            if (!trimmed.isEmpty()) {
+                ranges.add(Range.parse(trimmed));
+            }
+        }
+    }
+
+    /** The client's address, or null when the peer address is unknown. */
+    public String clientAddress(InetSocketAddress remote, String forwardedFor) {
+        if (remote == null) {
+            return null;
+        }
+        InetAddress peer = remote.getAddress();
+        // Unresolved socket addresses carry only a host string
+        if (peer == null) {
+            return remote.getHostString();
+        }
+        if (forwardedFor == null || !isTrusted(peer)) {
+            return peer.getHostAddress();
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            InetAddress address = parseLiteral(hop);
+            if (address == null) {
+                // Not an IP literal: it cannot be a configured proxy, so stop here
+                return hop.isEmpty() ? peer.getHostAddress() : hop;
+            }
+            if (!isTrusted(address)) {
+                return address.getHostAddress();
+            }
+        }
+        return peer.getHostAddress();
+    }
+
+    private boolean isTrusted(InetAddress address) {
+        for (Range range : ranges) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // IP literals only; anything else returns null without a DNS lookup
+    private static InetAddress parseLiteral(String value) {
+        String literal = value.startsWith("[") && value.endsWith("]") ? value.substring(1, value.length() - 1) : value;
+        try {
+            if (literal.indexOf(':') >= 0) {
+                // getByName treats anything containing ':' as an IPv6 literal and never resolves it
+                return InetAddress.getByName(literal);
+            }
+            String[] parts = literal.split("\\.", -1);
+            if (parts.length != 4) {
+                return null;
+            }
+            byte[] bytes = new byte[4];
+            for (int i = 0; i < 4; i++) {
+                if (parts[i].isEmpty() || parts[i].length() > 3 || !parts[i].chars().allMatch(Character::isDigit)) {
+                    return null;
+                }
+                int octet = Integer.parseInt(parts[i]);
+                if (octet > 255) {
+                    return null;
+                }
+                bytes[i] = (byte) octet;
+            }
+            return InetAddress.getByAddress(bytes);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Range(byte[] network, int prefixBits) {
+        static Range parse(String entry) {
+            int slash = entry.indexOf('/');
+            String host = slash < 0 ? entry : entry.substring(0, slash);
+            InetAddress address = parseLiteral(host);
+            if (address == null) {
+                throw new IllegalArgumentException("Trusted proxy must be an IP address or CIDR range: " + entry);
+            }
+            byte[] bytes = address.getAddress();
+            int bits = slash < 0 ? bytes.length * 8 : Integer.parseInt(entry.substring(slash + 1));
+            return new Range(bytes, bits);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] candidate = address.getAddress();
+            if (candidate.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixBits / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainder = prefixBits % 8;
+            if (remainder == 0) {
+                return true;
+            }
+            int mask = 0xff << (8 - remainder);
+            return (candidate[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.hrms.apigateway;
+
+/**
+ * Claims of a token whose signature has been checked.
+ */
+public record VerifiedToken(String subject, String role, long expiresAtEpochSecond) {
+
+    public boolean isExpired(long nowEpochSecond) {
+        return nowEpochSecond >= expiresAtEpochSecond;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.hrms.attendanceservice.controller;
+
+import com.example.hrms.attendanceservice.service.AttendanceArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Status of the attendance archive: which months have left the live table and how the last
+ * archival pass went. Passes normally run on a schedule; POST /run starts one now.
+ */
+@RestController
+@RequestMapping("/attendance/archive")
+public class AttendanceArchiveController {
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
+    @GetMapping
+    public ResponseEntity<?> getArchive() {
+        return ResponseEntity.ok(Map.of(
+            "status", attendanceArchiveService.getStatus(),
+            "months", attendanceArchiveService.getCatalog()));
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<?> run() {
+        if (!attendanceArchiveService.startRun()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("An archival pass is already running");
+        }
+        return ResponseEntity.accepted().body(attendanceArchiveService.getStatus());
+    }
+}
@@ -1,14 +1,57 @@
 package com.example.hrms.attendanceservice.controller;
 
+import com.example.hrms.attendanceservice.dto.AttendanceSummary;
+import com.example.hrms.attendanceservice.dto.BulkIngestResult;
+import com.example.hrms.attendanceservice.dto.EnrichedAttendance;
 import com.example.hrms.attendanceservice.entity.Attendance;
 import com.example.hrms.attendanceservice.repository.AttendanceRepository;
+import com.example.hrms.attendanceservice.service.AttendanceArchiveService;
+import com.example.hrms.attendanceservice.service.AttendanceBulkService;
+import com.example.hrms.attendanceservice.service.AttendanceExportService;
+import com.example.hrms.attendanceservice.service.AttendanceFeedService;
+import com.example.hrms.attendanceservice.service.AttendanceHistoryService;
+import com.example.hrms.attendanceservice.service.AttendanceRollupService;
+import com.example.hrms.attendanceservice.service.AttendanceSummaryService;
+import com.example.hrms.employeeclient.EmployeeClient;
+import com.example.hrms.employeeclient.EmployeeDirectory;
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.example.hrms.events.OutboxWriter;
+import com.example.hrms.export.ExportFormat;
+import com.example.hrms.export.TabularWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/attendance")
@@ -16,9 +59,177 @@ public class AttendanceController {
     @Autowired
     private AttendanceRepository attendanceRepository;
 
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private AttendanceBulkService attendanceBulkService;
+
+    @Autowired
+    private AttendanceFeedService attendanceFeedService;
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private AttendanceExportService attendanceExportService;
+
+    @Autowired
+    private AttendanceHistoryService attendanceHistoryService;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hrms.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${hrms.pagination.max-size:1000}")
+    private int maxPageSize;
+
     @GetMapping
-    public List<Attendance> getAllAttendances() {
-        return attendanceRepository.findAll();
+    // Read-only, so the page is served by a read replica when one is configured
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Attendance>> getAllAttendances(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(attendanceRepository.findAll());
+        }
+
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<Attendance> page = attendanceRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        // A full page means there may be more rows; hand back the last id as the cursor for the next call
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping("/enriched")
+    public ResponseEntity<List<EnrichedAttendance>> getEnrichedAttendances(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<Attendance> page = date != null
+            ? attendanceHistoryService.findByDate(date)
+            : attendanceRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        // One directory lookup per page; unknown employees come back without name and department
+        Map<Long, EmployeeRecord> employees = employeeDirectory.resolve(page.stream().map(Attendance::getEmployeeId).toList());
+        List<EnrichedAttendance> enriched = page.stream()
+            .map(row -> new EnrichedAttendance(row, employees.get(row.getEmployeeId())))
+            .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (date == null && page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(enriched);
+    }
+
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @Transactional(readOnly = true)
+    public void streamAttendances(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        ObjectWriter writer = objectMapper.writer();
+        OutputStream out = response.getOutputStream();
+
+        try (Stream<Attendance> attendances = attendanceRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Attendance> iterator = attendances.iterator();
+            while (iterator.hasNext()) {
+                Attendance row = iterator.next();
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+                // Detach so the persistence context does not grow with the export
+                entityManager.detach(row);
+            }
+        }
+        out.flush();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<?> exportAttendances(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String department,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().body("format must be csv or xlsx");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().body("from must not be after to");
+        }
+        // Resolved before streaming starts, so an employee-service failure is still a proper error response
+        Set<Long> employeeIds = department == null ? null : new HashSet<>(employeeClient.fetchIdsByDepartment(department));
+        boolean gzip = exportFormat.isCompressible() && acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024, true) : out;
+            try (TabularWriter writer = exportFormat.open(target, "Attendance")) {
+                attendanceExportService.export(from, to, employeeId, employeeIds, writer);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"attendance-" + LocalDate.now() + "." + exportFormat.getExtension() + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeed(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long resumeFrom = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                resumeFrom = Long.valueOf(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                // Unknown id: treat as a fresh subscription
+            }
+        }
+        return attendanceFeedService.subscribe(resumeFrom);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<AttendanceSummary> getAttendanceSummary(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AttendanceSummary summary = attendanceSummaryService.getSummary();
+        if (summary.getETag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(summary.getETag()).build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(summary.getETag())
+            .body(summary);
     }
 
     @GetMapping("/{id}")
@@ -27,9 +238,120 @@ public class AttendanceController {
         return attendance.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/employee/{employeeId}")
+    public List<Attendance> getAttendancesByEmployee(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        // Without a range, default to the month that contains 'to' (or the current month)
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.withDayOfMonth(1);
+        return attendanceHistoryService.findByEmployee(employeeId, start, end);
+    }
+
+    @GetMapping("/date/{date}")
+    public List<Attendance> getAttendancesByDate(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return attendanceHistoryService.findByDate(date);
+    }
+
+    @GetMapping("/days-present")
+    public Map<Long, Long> getDaysPresent(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return attendanceHistoryService.countDaysPresent(from, to);
+    }
+
+    @PostMapping("/check-in")
+    public ResponseEntity<?> checkIn(@RequestBody Attendance request) {
+        if (request.getEmployeeId() == null) {
+            return ResponseEntity.badRequest().body("employeeId is required");
+        }
+        LocalDate date = request.getDate() != null ? request.getDate() : LocalDate.now();
+        LocalTime checkInTime = request.getCheckInTime() != null ? request.getCheckInTime() : LocalTime.now();
+
+        int[] affectedRows = new int[1];
+        Attendance attendance;
+        try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+            if (attendanceArchiveService.isReadOnly(date)) {
+                return archived(date);
+            }
+            attendance = new TransactionTemplate(transactionManager).execute(status -> {
+                affectedRows[0] = attendanceRepository.upsertCheckIn(request.getEmployeeId(), date, checkInTime);
+                Attendance row = attendanceRepository.findByEmployeeIdAndDate(request.getEmployeeId(), date).orElseThrow();
+                if (affectedRows[0] > 0) {
+                    attendanceRollupService.refresh(row.getEmployeeId(), date);
+                    outboxWriter.append("attendance", row.getEmployeeId(), "attendance.checked-in", row);
+                }
+                return row;
+            });
+        }
+        int affected = affectedRows[0];
+        if (affected == 1) {
+            attendanceSummaryService.onCreated(attendance);
+        } else if (affected == 2) {
+            attendanceSummaryService.onUpdated(attendance.getEmployeeId(), date, null, attendance);
+        }
+        return ResponseEntity.ok(attendance);
+    }
+
+    @PostMapping("/check-out")
+    public ResponseEntity<?> checkOut(@RequestBody Attendance request) {
+        if (request.getEmployeeId() == null) {
+            return ResponseEntity.badRequest().body("employeeId is required");
+        }
+        LocalDate date = request.getDate() != null ? request.getDate() : LocalDate.now();
+        LocalTime checkOutTime = request.getCheckOutTime() != null ? request.getCheckOutTime() : LocalTime.now();
+
+        Attendance attendance;
+        try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+            if (attendanceArchiveService.isReadOnly(date)) {
+                return archived(date);
+            }
+            attendance = new TransactionTemplate(transactionManager).execute(status -> {
+                if (attendanceRepository.closeCheckIn(request.getEmployeeId(), date, checkOutTime) == 0) {
+                    return null;
+                }
+                Attendance row = attendanceRepository.findByEmployeeIdAndDate(request.getEmployeeId(), date).orElseThrow();
+                attendanceRollupService.refresh(row.getEmployeeId(), date);
+                outboxWriter.append("attendance", row.getEmployeeId(), "attendance.checked-out", row);
+                return row;
+            });
+        }
+        if (attendance == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("No open check-in for employee " + request.getEmployeeId() + " on " + date);
+        }
+        return ResponseEntity.ok(attendance);
+    }
+
     @PostMapping
-    public Attendance createAttendance(@RequestBody Attendance attendance) {
-        return attendanceRepository.save(attendance);
+    public ResponseEntity<?> createAttendance(@RequestBody Attendance attendance) {
+        Attendance savedAttendance;
+        try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+            if (attendanceArchiveService.isReadOnly(attendance.getDate())) {
+                return archived(attendance.getDate());
+            }
+            // Attendance events are keyed by employee so consumers see one employee's changes in order
+            savedAttendance = new TransactionTemplate(transactionManager).execute(status -> {
+                // Flushed so the rollup refresh, which reads through JDBC, sees the row
+                Attendance saved = attendanceRepository.saveAndFlush(attendance);
+                attendanceRollupService.refresh(saved.getEmployeeId(), saved.getDate());
+                outboxWriter.append("attendance", saved.getEmployeeId(), "attendance.created", saved);
+                return saved;
+            });
+        }
+        attendanceSummaryService.onCreated(savedAttendance);
+        return ResponseEntity.ok(savedAttendance);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkIngestResult createAttendances(@RequestBody List<Attendance> events) {
+        return attendanceBulkService.ingest(events);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkIngestResult createAttendancesFromNdjson(HttpServletRequest request) throws IOException {
+        return attendanceBulkService.ingestNdjson(request.getReader());
     }
 
     @PutMapping("/{id}")
@@ -39,6 +361,9 @@ public class AttendanceController {
             
             if (optionalAttendance.isPresent()) {
                 Attendance attendance = optionalAttendance.get();
+                Long previousEmployeeId = attendance.getEmployeeId();
+                LocalDate previousDate = attendance.getDate();
+                LocalTime previousCheckIn = attendance.getCheckInTime();
                 
                 if (updatedAttendance.getEmployeeId() != null) {
                     attendance.setEmployeeId(updatedAttendance.getEmployeeId());
@@ -53,7 +378,25 @@ public class AttendanceController {
                     attendance.setCheckOutTime(updatedAttendance.getCheckOutTime());
                 }
                 
-                Attendance savedAttendance = attendanceRepository.save(attendance);
+                Attendance savedAttendance;
+                try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+                    // Neither the row's current day nor the day it moves to may be in an archived month
+                    if (attendanceArchiveService.isReadOnly(previousDate)) {
+                        return archived(previousDate);
+                    }
+                    if (attendanceArchiveService.isReadOnly(updatedAttendance.getDate())) {
+                        return archived(updatedAttendance.getDate());
+                    }
+                    savedAttendance = new TransactionTemplate(transactionManager).execute(status -> {
+                        Attendance saved = attendanceRepository.saveAndFlush(attendance);
+                        attendanceRollupService.refresh(List.of(
+                            new AttendanceRollupService.Key(previousEmployeeId, previousDate),
+                            new AttendanceRollupService.Key(saved.getEmployeeId(), saved.getDate())));
+                        outboxWriter.append("attendance", saved.getEmployeeId(), "attendance.updated", saved);
+                        return saved;
+                    });
+                }
+                attendanceSummaryService.onUpdated(previousEmployeeId, previousDate, previousCheckIn, savedAttendance);
                 return ResponseEntity.ok(savedAttendance);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -71,7 +414,19 @@ public class AttendanceController {
             Optional<Attendance> optionalAttendance = attendanceRepository.findById(id);
             
             if (optionalAttendance.isPresent()) {
-                attendanceRepository.delete(optionalAttendance.get());
+                try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+                    if (attendanceArchiveService.isReadOnly(optionalAttendance.get().getDate())) {
+                        return archived(optionalAttendance.get().getDate());
+                    }
+                    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                        attendanceRepository.delete(optionalAttendance.get());
+                        attendanceRepository.flush();
+                        attendanceRollupService.refresh(optionalAttendance.get().getEmployeeId(), optionalAttendance.get().getDate());
+                        outboxWriter.append("attendance", optionalAttendance.get().getEmployeeId(), "attendance.deleted",
+                            optionalAttendance.get());
+                    });
+                }
+                attendanceSummaryService.onDeleted(optionalAttendance.get());
                 return ResponseEntity.noContent().build();
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -82,4 +437,40 @@ public class AttendanceController {
                 .body("Error deleting attendance: " + e.getMessage());
         }
     }
+
+    /** Deletes an employee's attendance over [from, to] with one DELETE statement instead of one per row. */
+    @DeleteMapping("/employee/{employeeId}")
+    public ResponseEntity<?> deleteAttendanceRange(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().body("from must not be after to");
+        }
+        int deleted;
+        try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+            if (attendanceArchiveService.isReadOnly(from, to)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Attendance from " + from + " to " + to + " overlaps archived months and can no longer be changed");
+            }
+            deleted = new TransactionTemplate(transactionManager).execute(status -> {
+                int count = attendanceRepository.deleteByEmployeeIdAndDateRange(employeeId, from, to);
+                if (count > 0) {
+                    attendanceRollupService.refreshRange(employeeId, from, to);
+                    outboxWriter.append("attendance", employeeId, "attendance.range-deleted",
+                        Map.of("employeeId", employeeId, "from", from.toString(), "to", to.toString(), "deleted", count));
+                }
+                return count;
+            });
+        }
+        if (deleted > 0) {
+            attendanceSummaryService.onRangeDeleted(employeeId, from, to, deleted);
+        }
+        return ResponseEntity.ok(Map.of("employeeId", employeeId, "deleted", deleted));
+    }
+
+    private static ResponseEntity<String> archived(LocalDate date) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body("Attendance for " + date + " is archived and can no longer be changed");
+    }
 }
@@ -0,0 +1,117 @@
+package com.example.hrms.attendanceservice.controller;
+
+import com.example.hrms.attendanceservice.entity.AttendanceMonthlyRollup;
+import com.example.hrms.attendanceservice.repository.AttendanceRollupRepository;
+import com.example.hrms.attendanceservice.service.AttendanceArchiveService;
+import com.example.hrms.attendanceservice.service.AttendanceRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Timesheet and payroll reports served only from the rollup tables, never from raw attendance rows.
+ */
+@RestController
+@RequestMapping("/attendance/rollups")
+public class AttendanceRollupController {
+    @Autowired
+    private AttendanceRollupRepository attendanceRollupRepository;
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
+    @Value("${hrms.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${hrms.pagination.max-size:1000}")
+    private int maxPageSize;
+
+    @GetMapping("/employee/{employeeId}/daily")
+    public ResponseEntity<?> getDaily(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().body("from must not be after to");
+        }
+        return ResponseEntity.ok(attendanceRollupRepository.findDaily(employeeId, from, to));
+    }
+
+    @GetMapping("/employee/{employeeId}/monthly")
+    public ResponseEntity<?> getMonthly(@PathVariable Long employeeId, @RequestParam String from, @RequestParam String to) {
+        try {
+            YearMonth first = YearMonth.parse(from);
+            YearMonth last = YearMonth.parse(to);
+            if (first.isAfter(last)) {
+                return ResponseEntity.badRequest().body("from must not be after to");
+            }
+            return ResponseEntity.ok(attendanceRollupRepository.findMonthly(employeeId, first.atDay(1), last.atDay(1)));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("Months must be formatted as yyyy-MM");
+        }
+    }
+
+    @GetMapping("/monthly")
+    public ResponseEntity<?> getMonth(
+            @RequestParam String month,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("Months must be formatted as yyyy-MM");
+        }
+
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<AttendanceMonthlyRollup> page = attendanceRollupRepository.findMonth(
+                yearMonth.atDay(1), after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getEmployeeId()));
+        }
+        return response.body(page);
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild(@RequestParam String from, @RequestParam String to) {
+        YearMonth first;
+        YearMonth last;
+        try {
+            first = YearMonth.parse(from);
+            last = YearMonth.parse(to);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body("Months must be formatted as yyyy-MM");
+        }
+        if (first.isAfter(last)) {
+            return ResponseEntity.badRequest().body("from must not be after to");
+        }
+        // Rebuilding reads raw rows, which archived months no longer have; their rollups are kept as archived
+        if (attendanceArchiveService.isReadOnly(first.atDay(1))) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Months before " + attendanceArchiveService.getHorizon() + " are archived; their rollups cannot be rebuilt");
+        }
+        if (!attendanceRollupService.startRebuild(first, last)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("A rollup rebuild is already running");
+        }
+        return ResponseEntity.accepted().body(attendanceRollupService.getRebuildStatus());
+    }
+
+    @GetMapping("/rebuild")
+    public ResponseEntity<?> getRebuildStatus() {
+        return ResponseEntity.ok(attendanceRollupService.getRebuildStatus());
+    }
+}
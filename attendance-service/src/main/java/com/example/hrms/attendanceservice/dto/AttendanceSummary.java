@@ -0,0 +1,25 @@
+package com.example.hrms.attendanceservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+
+public class AttendanceSummary {
+    private final long totalRecords;
+    private final LocalDate date;
+    private final long presentToday;
+    private final String eTag;
+
+    public AttendanceSummary(long totalRecords, LocalDate date, long presentToday, String eTag) {
+        this.totalRecords = totalRecords;
+        this.date = date;
+        this.presentToday = presentToday;
+        this.eTag = eTag;
+    }
+
+    public long getTotalRecords() { return totalRecords; }
+    public LocalDate getDate() { return date; }
+    public long getPresentToday() { return presentToday; }
+    @JsonIgnore
+    public String getETag() { return eTag; }
+}
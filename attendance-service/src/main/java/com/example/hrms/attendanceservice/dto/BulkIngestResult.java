@@ -0,0 +1,24 @@
+package com.example.hrms.attendanceservice.dto;
+
+import java.util.Comparator;
+import java.util.List;
+
+public class BulkIngestResult {
+    private final int received;
+    private final int accepted;
+    private final int rejected;
+    private final List<BulkItemResult> items;
+
+    public BulkIngestResult(List<BulkItemResult> items) {
+        items.sort(Comparator.comparingInt(BulkItemResult::getIndex));
+        this.items = items;
+        this.received = items.size();
+        this.rejected = (int) items.stream().filter(item -> item.getError() != null).count();
+        this.accepted = received - rejected;
+    }
+
+    public int getReceived() { return received; }
+    public int getAccepted() { return accepted; }
+    public int getRejected() { return rejected; }
+    public List<BulkItemResult> getItems() { return items; }
+}
@@ -0,0 +1,17 @@
+package com.example.hrms.attendanceservice.dto;
+
+public class BulkItemResult {
+    private final int index;
+    private final String status;
+    private final String error;
+
+    public BulkItemResult(int index, String status, String error) {
+        this.index = index;
+        this.status = status;
+        this.error = error;
+    }
+
+    public int getIndex() { return index; }
+    public String getStatus() { return status; }
+    public String getError() { return error; }
+}
@@ -0,0 +1,22 @@
+package com.example.hrms.attendanceservice.dto;
+
+import com.example.hrms.attendanceservice.entity.Attendance;
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+public class EnrichedAttendance {
+    @JsonUnwrapped
+    private final Attendance attendance;
+    private final String employeeName;
+    private final String department;
+
+    public EnrichedAttendance(Attendance attendance, EmployeeRecord employee) {
+        this.attendance = attendance;
+        this.employeeName = employee == null ? null : employee.getName();
+        this.department = employee == null ? null : employee.getDepartment();
+    }
+
+    public Attendance getAttendance() { return attendance; }
+    public String getEmployeeName() { return employeeName; }
+    public String getDepartment() { return department; }
+}
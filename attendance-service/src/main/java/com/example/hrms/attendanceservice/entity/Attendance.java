@@ -5,7 +5,10 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "attendances")
+@Table(
+        name = "attendances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendance_employee_date", columnNames = {"employeeId", "date"}),
+        indexes = @Index(name = "idx_attendance_date", columnList = "date"))
 public class Attendance {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
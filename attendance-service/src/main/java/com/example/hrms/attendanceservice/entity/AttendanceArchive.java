@@ -0,0 +1,40 @@
+package com.example.hrms.attendanceservice.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Catalog row for one month of attendance moved out of {@code attendances} into a gzip NDJSON
+ * file. {@code monthStart} is the first day of the month; archived months are contiguous from
+ * the oldest, so the month after the newest one is where the live table begins.
+ */
+@Entity
+@Table(name = "attendance_archives")
+public class AttendanceArchive {
+    @Id
+    private LocalDate monthStart;
+    @Column(nullable = false)
+    private String fileName;
+    private long rowCount;
+    private long sizeBytes;
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    public AttendanceArchive() {}
+
+    public AttendanceArchive(LocalDate monthStart, String fileName, long rowCount, long sizeBytes, Instant archivedAt) {
+        this.monthStart = monthStart;
+        this.fileName = fileName;
+        this.rowCount = rowCount;
+        this.sizeBytes = sizeBytes;
+        this.archivedAt = archivedAt;
+    }
+
+    public LocalDate getMonthStart() { return monthStart; }
+    public String getFileName() { return fileName; }
+    public long getRowCount() { return rowCount; }
+    public long getSizeBytes() { return sizeBytes; }
+    public Instant getArchivedAt() { return archivedAt; }
+}
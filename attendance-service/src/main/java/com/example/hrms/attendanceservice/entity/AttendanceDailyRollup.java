@@ -0,0 +1,53 @@
+package com.example.hrms.attendanceservice.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * One row per employee and day, derived from the matching {@link Attendance} row. Written only
+ * by AttendanceRollupService through JDBC; mapped here for the schema and for reads.
+ */
+@Entity
+@Immutable
+@IdClass(AttendanceDailyRollup.Key.class)
+@Table(
+        name = "attendance_daily_rollups",
+        indexes = @Index(name = "idx_daily_rollup_employee_date", columnList = "employeeId, date"))
+public class AttendanceDailyRollup {
+    @Id
+    private Long employeeId;
+    @Id
+    private LocalDate date;
+    private int present;
+    private int late;
+    private int workedMinutes;
+
+    public AttendanceDailyRollup() {}
+
+    public Long getEmployeeId() { return employeeId; }
+    public LocalDate getDate() { return date; }
+    public int getPresent() { return present; }
+    public int getLate() { return late; }
+    public int getWorkedMinutes() { return workedMinutes; }
+
+    public static class Key implements Serializable {
+        private Long employeeId;
+        private LocalDate date;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(employeeId, other.employeeId) && Objects.equals(date, other.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(employeeId, date);
+        }
+    }
+}
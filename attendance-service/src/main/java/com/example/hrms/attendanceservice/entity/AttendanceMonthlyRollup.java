@@ -0,0 +1,54 @@
+package com.example.hrms.attendanceservice.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Per-employee monthly totals, re-derived from the month's daily rollups whenever one of them
+ * changes. {@code monthStart} is the first day of the month.
+ */
+@Entity
+@Immutable
+@IdClass(AttendanceMonthlyRollup.Key.class)
+@Table(
+        name = "attendance_monthly_rollups",
+        indexes = @Index(name = "idx_monthly_rollup_month", columnList = "monthStart"))
+public class AttendanceMonthlyRollup {
+    @Id
+    private Long employeeId;
+    @Id
+    private LocalDate monthStart;
+    private int daysPresent;
+    private int lateDays;
+    private long workedMinutes;
+
+    public AttendanceMonthlyRollup() {}
+
+    public Long getEmployeeId() { return employeeId; }
+    public LocalDate getMonthStart() { return monthStart; }
+    public int getDaysPresent() { return daysPresent; }
+    public int getLateDays() { return lateDays; }
+    public long getWorkedMinutes() { return workedMinutes; }
+
+    public static class Key implements Serializable {
+        private Long employeeId;
+        private LocalDate monthStart;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && Objects.equals(employeeId, other.employeeId)
+                    && Objects.equals(monthStart, other.monthStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(employeeId, monthStart);
+        }
+    }
+}
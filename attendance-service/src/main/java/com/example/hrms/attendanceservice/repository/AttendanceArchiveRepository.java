@@ -0,0 +1,16 @@
+package com.example.hrms.attendanceservice.repository;
+
+import com.example.hrms.attendanceservice.entity.AttendanceArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AttendanceArchiveRepository extends JpaRepository<AttendanceArchive, LocalDate> {
+
+    List<AttendanceArchive> findAllByOrderByMonthStartAsc();
+
+    @Query("select coalesce(sum(a.rowCount), 0) from AttendanceArchive a")
+    long sumRowCount();
+}
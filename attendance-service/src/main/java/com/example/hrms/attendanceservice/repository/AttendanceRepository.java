@@ -1,7 +1,77 @@
 package com.example.hrms.attendanceservice.repository;
 
 import com.example.hrms.attendanceservice.entity.Attendance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+
+    // Keyset page: rows strictly after the given id, seeking on the primary key index
+    List<Attendance> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Forward-only cursor for full exports; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Attendance> streamAllByOrderByIdAsc();
+
+    @Query("select a.employeeId from Attendance a where a.date = :date and a.checkInTime is not null")
+    List<Long> findCheckedInEmployeeIds(@Param("date") LocalDate date);
+
+    // Served by the (employee_id, date) unique index
+    List<Attendance> findByEmployeeIdAndDateBetweenOrderByDateAsc(Long employeeId, LocalDate from, LocalDate to);
+
+    Optional<Attendance> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+
+    // Served by idx_attendance_date
+    List<Attendance> findByDateOrderByEmployeeIdAsc(LocalDate date);
+
+    @Query("select a.employeeId as employeeId, count(a) as days from Attendance a "
+            + "where a.date between :from and :to and a.checkInTime is not null group by a.employeeId")
+    List<EmployeeDaysPresent> countDaysPresent(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Inserts the day's row or, if one exists, fills in its check-in when still empty.
+     * Returns MySQL's affected-row count: 1 inserted, 2 updated, 0 unchanged. That last case needs
+     * {@code useAffectedRows=true} on the JDBC URL; Connector/J's default reports found rows, which
+     * turns an unchanged duplicate into 1 and makes a repeated check-in look like a new row.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "insert into attendances (employee_id, date, check_in_time) values (:employeeId, :date, :checkInTime) "
+            + "on duplicate key update check_in_time = coalesce(check_in_time, values(check_in_time))", nativeQuery = true)
+    int upsertCheckIn(@Param("employeeId") Long employeeId, @Param("date") LocalDate date,
+                      @Param("checkInTime") LocalTime checkInTime);
+
+    @Modifying
+    @Transactional
+    @Query("update Attendance a set a.checkOutTime = :checkOutTime "
+            + "where a.employeeId = :employeeId and a.date = :date and a.checkOutTime is null")
+    int closeCheckIn(@Param("employeeId") Long employeeId, @Param("date") LocalDate date,
+                     @Param("checkOutTime") LocalTime checkOutTime);
+
+    // One set-based delete for the employee.deleted clean-up; the unique key leads with employee_id
+    @Modifying
+    @Query("delete from Attendance a where a.employeeId = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Set-based range delete for one employee; the unique key (employee_id, date) serves it
+    @Modifying
+    @Query("delete from Attendance a where a.employeeId = :employeeId and a.date between :from and :to")
+    int deleteByEmployeeIdAndDateRange(@Param("employeeId") Long employeeId, @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
 }
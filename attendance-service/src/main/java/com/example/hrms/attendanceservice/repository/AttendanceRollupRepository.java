@@ -0,0 +1,31 @@
+package com.example.hrms.attendanceservice.repository;
+
+import com.example.hrms.attendanceservice.entity.AttendanceDailyRollup;
+import com.example.hrms.attendanceservice.entity.AttendanceMonthlyRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** Read side of the rollup tables; every query is a primary-key or index range scan. */
+public interface AttendanceRollupRepository extends Repository<AttendanceDailyRollup, AttendanceDailyRollup.Key> {
+
+    @Query("select d from AttendanceDailyRollup d where d.employeeId = :employeeId "
+            + "and d.date between :from and :to order by d.date")
+    List<AttendanceDailyRollup> findDaily(@Param("employeeId") Long employeeId,
+                                          @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select m from AttendanceMonthlyRollup m where m.employeeId = :employeeId "
+            + "and m.monthStart between :from and :to order by m.monthStart")
+    List<AttendanceMonthlyRollup> findMonthly(@Param("employeeId") Long employeeId,
+                                              @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Keyset page over one month for timesheet and payroll consumers
+    @Query("select m from AttendanceMonthlyRollup m where m.monthStart = :monthStart "
+            + "and m.employeeId > :after order by m.employeeId")
+    List<AttendanceMonthlyRollup> findMonth(@Param("monthStart") LocalDate monthStart, @Param("after") Long after,
+                                            Pageable pageable);
+}
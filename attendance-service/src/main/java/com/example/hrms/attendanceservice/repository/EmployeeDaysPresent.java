@@ -0,0 +1,6 @@
+package com.example.hrms.attendanceservice.repository;
+
+public interface EmployeeDaysPresent {
+    Long getEmployeeId();
+    Long getDays();
+}
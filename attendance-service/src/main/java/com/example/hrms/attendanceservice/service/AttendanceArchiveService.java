@@ -0,0 +1,358 @@
+package com.example.hrms.attendanceservice.service;
+
+import com.example.hrms.attendanceservice.entity.Attendance;
+import com.example.hrms.attendanceservice.entity.AttendanceArchive;
+import com.example.hrms.attendanceservice.repository.AttendanceArchiveRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves closed months of attendance out of the hot table. A month older than {@code retain-months}
+ * is streamed to {@code attendances-yyyy-MM.ndjson.gz}, checked against the live row count,
+ * recorded in {@code attendance_archives} and only then purged (a partition drop on MySQL), so
+ * the table holds a bounded window however much history is kept. Archived months are read-only;
+ * {@link AttendanceHistoryService} reads them back alongside the live rows.
+ */
+@Service
+public class AttendanceArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceArchiveService.class);
+
+    private static final String MONTH_SQL = "select id, employee_id, date, check_in_time, check_out_time "
+            + "from attendances where date >= ? and date < ? order by employee_id, date";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceArchiveRepository attendanceArchiveRepository;
+
+    @Autowired
+    private AttendancePartitionService attendancePartitionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${hrms.attendance.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hrms.attendance.archive.dir:data/attendance-archive}")
+    private Path directory;
+
+    // Months kept live before the current one; older months are archived
+    @Value("${hrms.attendance.archive.retain-months:12}")
+    private int retainMonths;
+
+    @Value("${hrms.attendance.archive.interval:6h}")
+    private Duration interval;
+
+    @Value("${hrms.export.fetch-size:500}")
+    private int fetchSize;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "attendance-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // First day of the oldest archived month, and the first day not archived; null until a month is archived
+    private volatile LocalDate archiveStart;
+    private volatile LocalDate horizon;
+    // Writes before this day are refused; runs ahead of horizon while a month is being archived
+    private volatile LocalDate writeFloor;
+    // Writers hold the read side from their floor check until commit; raising the floor takes the write side
+    private final ReadWriteLock floorLock = new ReentrantReadWriteLock();
+    private volatile Map<String, Object> lastRun = Map.of("running", false);
+
+    @PostConstruct
+    void loadCatalog() {
+        List<AttendanceArchive> archives = attendanceArchiveRepository.findAllByOrderByMonthStartAsc();
+        archiveStart = archives.isEmpty() ? null : archives.get(0).getMonthStart();
+        horizon = archives.isEmpty() ? null : archives.get(archives.size() - 1).getMonthStart().plusMonths(1);
+        writeFloor = horizon;
+    }
+
+    // Partitions are created once the schema is in place; the first archival pass runs a minute later
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedule() {
+        try {
+            attendancePartitionService.maintain();
+        } catch (RuntimeException e) {
+            log.warn("Attendance partition maintenance failed", e);
+        }
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::runSafely, 60_000, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /** First day still held in the live table, or null when nothing has been archived. */
+    public LocalDate getHorizon() {
+        return horizon;
+    }
+
+    public boolean isArchived(LocalDate date) {
+        LocalDate current = horizon;
+        return current != null && date != null && date.isBefore(current);
+    }
+
+    /** True when a write dated {@code date} would touch an archived (or currently archiving) month. */
+    public boolean isReadOnly(LocalDate date) {
+        LocalDate floor = writeFloor;
+        return floor != null && date != null && date.isBefore(floor);
+    }
+
+    /** True when any day in [{@code from}, {@code to}] is read-only; reads the floor once for the whole range. */
+    public boolean isReadOnly(LocalDate from, LocalDate to) {
+        LocalDate floor = writeFloor;
+        return floor != null && from != null && to != null && !to.isBefore(from)
+            && (from.isBefore(floor) || to.isBefore(floor));
+    }
+
+    /**
+     * Holds the write floor where it is until closed. Writers open a guard before checking
+     * {@link #isReadOnly} and close it once their transaction has committed; archival raises the
+     * floor only when no guard is open, so every write that passed the check is in the table
+     * before the month's export starts.
+     */
+    public WriteGuard guardWrites() {
+        Lock lock = floorLock.readLock();
+        lock.lock();
+        return lock::unlock;
+    }
+
+    /** An open {@link #guardWrites} guard; close it exactly once. */
+    public interface WriteGuard extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Feeds every archived row dated within [from, to] to {@code consumer}, month by month in
+     * (employee, date) order. Either bound may be null; the live part of the range is skipped.
+     */
+    public void scan(LocalDate from, LocalDate to, Consumer<Attendance> consumer) {
+        LocalDate first = archiveStart;
+        LocalDate end = horizon;
+        if (first == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(from == null || from.isBefore(first) ? first : from);
+        YearMonth last = YearMonth.from(to == null || !to.isBefore(end) ? end.minusDays(1) : to);
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            scanMonth(month, row -> {
+                LocalDate date = row.getDate();
+                if ((from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to))) {
+                    consumer.accept(row);
+                }
+            });
+        }
+    }
+
+    private void scanMonth(YearMonth month, Consumer<Attendance> consumer) {
+        ObjectReader reader = objectMapper.readerFor(Attendance.class);
+        Path file = directory.resolve(fileName(month));
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                consumer.accept(reader.readValue(line));
+            }
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Attendance archive " + file + " is catalogued but missing", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Starts an archival pass in the background; returns false if one is already running. */
+    public synchronized boolean startRun() {
+        if (Boolean.TRUE.equals(lastRun.get("running"))) {
+            return false;
+        }
+        lastRun = Map.of("running", true, "startedAt", Instant.now().toString());
+        scheduler.execute(this::runSafely);
+        return true;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>(lastRun);
+        status.put("horizon", horizon == null ? null : horizon.toString());
+        status.put("retainMonths", retainMonths);
+        return status;
+    }
+
+    public List<AttendanceArchive> getCatalog() {
+        return attendanceArchiveRepository.findAllByOrderByMonthStartAsc();
+    }
+
+    private void runSafely() {
+        synchronized (this) {
+            lastRun = Map.of("running", true, "startedAt", Instant.now().toString());
+        }
+        Map<String, Object> status = new HashMap<>(lastRun);
+        List<String> archived = new ArrayList<>();
+        try {
+            attendancePartitionService.maintain();
+            YearMonth cutoff = YearMonth.now().minusMonths(retainMonths);
+            // Rows left behind by a run that stopped between cataloguing and purging
+            if (horizon != null) {
+                attendancePartitionService.purgeBefore(horizon);
+            }
+            YearMonth month = firstLiveMonth();
+            for (; month != null && month.isBefore(cutoff); month = month.plusMonths(1)) {
+                archive(month);
+                archived.add(month.toString());
+                status.put("completedThrough", month.toString());
+            }
+            status.put("result", "COMPLETED");
+        } catch (IOException | RuntimeException e) {
+            status.put("result", "FAILED");
+            status.put("error", e.getMessage());
+            log.error("Attendance archival failed; it will be retried on the next run", e);
+        } finally {
+            // A failed month is not catalogued, so writes to it are allowed again
+            writeFloor = horizon;
+            status.put("archived", archived);
+            status.put("running", false);
+            status.put("finishedAt", Instant.now().toString());
+            lastRun = Map.copyOf(status);
+        }
+    }
+
+    private YearMonth firstLiveMonth() {
+        if (horizon != null) {
+            return YearMonth.from(horizon);
+        }
+        LocalDate first = jdbcTemplate.queryForObject("select min(date) from attendances", LocalDate.class);
+        return first == null ? null : YearMonth.from(first);
+    }
+
+    private void archive(YearMonth month) throws IOException {
+        long started = System.nanoTime();
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.plusMonths(1).atDay(1);
+        // Waits for writes already past their floor check to commit; later ones see the new floor
+        Lock lock = floorLock.writeLock();
+        lock.lock();
+        try {
+            writeFloor = end;
+        } finally {
+            lock.unlock();
+        }
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve(fileName(month));
+        Path temp = directory.resolve(fileName(month) + ".tmp");
+        long written;
+        try {
+            written = writeMonth(start, end, temp);
+            Long live = jdbcTemplate.queryForObject("select count(*) from attendances where date >= ? and date < ?",
+                    Long.class, Date.valueOf(start), Date.valueOf(end));
+            if (live == null || live != written) {
+                throw new IllegalStateException("Attendance for " + month + " changed while archiving ("
+                        + written + " written, " + live + " live)");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        // Catalogued before the purge: from here on reads of this month go to the file
+        attendanceArchiveRepository.save(new AttendanceArchive(start, file.getFileName().toString(), written,
+                Files.size(file), Instant.now()));
+        if (archiveStart == null) {
+            archiveStart = start;
+        }
+        horizon = end;
+        int purged = attendancePartitionService.purgeBefore(end);
+        log.info("Archived {} attendance rows for {} to {} in {} ms ({} removed by batched delete)", written, month,
+                file, Duration.ofNanos(System.nanoTime() - started).toMillis(), purged);
+    }
+
+    private long writeMonth(LocalDate start, LocalDate end, Path target) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Attendance.class);
+        long[] written = {0};
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), 64 * 1024);
+             BufferedWriter lines = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(MONTH_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setDate(1, Date.valueOf(start));
+                statement.setDate(2, Date.valueOf(end));
+                return statement;
+            }, (ResultSet rs) -> {
+                Attendance row = new Attendance();
+                row.setId(rs.getLong("id"));
+                row.setEmployeeId(rs.getLong("employee_id"));
+                row.setDate(rs.getDate("date").toLocalDate());
+                Time checkIn = rs.getTime("check_in_time");
+                Time checkOut = rs.getTime("check_out_time");
+                row.setCheckInTime(checkIn == null ? null : checkIn.toLocalTime());
+                row.setCheckOutTime(checkOut == null ? null : checkOut.toLocalTime());
+                try {
+                    lines.write(writer.writeValueAsString(row));
+                    lines.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                written[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written[0];
+    }
+
+    private static String fileName(YearMonth month) {
+        return "attendances-" + month + ".ndjson.gz";
+    }
+}
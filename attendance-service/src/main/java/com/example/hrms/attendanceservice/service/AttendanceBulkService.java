@@ -0,0 +1,336 @@
+package com.example.hrms.attendanceservice.service;
+
+import com.example.hrms.attendanceservice.dto.BulkIngestResult;
+import com.example.hrms.attendanceservice.dto.BulkItemResult;
+import com.example.hrms.attendanceservice.entity.Attendance;
+import com.example.hrms.events.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes badge-reader feeds straight through JDBC batches. Attendance ids are
+ * IDENTITY-generated, which stops Hibernate from batching inserts, so this path
+ * bypasses the entity manager; with rewriteBatchedStatements each chunk becomes
+ * one multi-row INSERT. The generated ids are read back from the batch, so
+ * {@code attendance.created} carries the persisted row, as it does for a single check-in.
+ */
+@Service
+public class AttendanceBulkService {
+    public static final String CREATED = "CREATED";
+    public static final String CHECKED_OUT = "CHECKED_OUT";
+    public static final String REJECTED = "REJECTED";
+
+    private static final String CREATED_EVENT = "attendance.created";
+    private static final String CHECKED_OUT_EVENT = "attendance.checked-out";
+
+    private static final String INSERT_SQL =
+            "insert into attendances (employee_id, date, check_in_time, check_out_time) values (?, ?, ?, ?)";
+    private static final String CHECK_OUT_SQL =
+            "update attendances set check_out_time = ? where employee_id = ? and date = ? and check_out_time is null";
+    private static final PreparedStatementCreator INSERT_STATEMENT =
+            connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${hrms.attendance.bulk.batch-size:500}")
+    private int batchSize;
+
+    public BulkIngestResult ingest(List<Attendance> events) {
+        Run run = new Run();
+        for (Attendance event : events) {
+            run.add(event);
+        }
+        return run.finish();
+    }
+
+    public BulkIngestResult ingestNdjson(BufferedReader reader) throws IOException {
+        ObjectReader lineReader = objectMapper.readerFor(Attendance.class);
+        Run run = new Run();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.add(lineReader.readValue(line));
+            } catch (IOException e) {
+                run.reject("Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    private static String validate(Attendance event) {
+        if (event == null) {
+            return "Event is empty";
+        }
+        if (event.getEmployeeId() == null) {
+            return "employeeId is required";
+        }
+        if (event.getDate() == null) {
+            return "date is required";
+        }
+        if (event.getCheckInTime() == null && event.getCheckOutTime() == null) {
+            return "checkInTime or checkOutTime is required";
+        }
+        if (event.getCheckInTime() != null && event.getCheckOutTime() != null
+                && event.getCheckOutTime().isBefore(event.getCheckInTime())) {
+            return "checkOutTime is before checkInTime";
+        }
+        return null;
+    }
+
+    private static void bindInsert(PreparedStatement ps, Attendance event) throws SQLException {
+        ps.setLong(1, event.getEmployeeId());
+        ps.setDate(2, Date.valueOf(event.getDate()));
+        ps.setTime(3, Time.valueOf(event.getCheckInTime()));
+        ps.setTime(4, event.getCheckOutTime() == null ? null : Time.valueOf(event.getCheckOutTime()));
+    }
+
+    // Connector/J names the key column GENERATED_KEY and H2 names it ID; either way it is the only one
+    private static Long generatedId(Map<String, Object> key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalStateException("Insert returned no generated id");
+        }
+        return ((Number) key.values().iterator().next()).longValue();
+    }
+
+    private static OutboxWriter.Entry outboxEntry(String type, Attendance event) {
+        return new OutboxWriter.Entry("attendance", event.getEmployeeId(), type, event);
+    }
+
+    private static AttendanceRollupService.Key rollupKey(Attendance event) {
+        return new AttendanceRollupService.Key(event.getEmployeeId(), event.getDate());
+    }
+
+    private record Pending(int index, Attendance event) {}
+
+    /** One ingestion request: buffers valid events into chunks and records a result per item. */
+    private class Run {
+        private final List<BulkItemResult> results = new ArrayList<>();
+        private final List<Pending> inserts = new ArrayList<>();
+        private final List<Pending> checkOuts = new ArrayList<>();
+        private int next;
+
+        void add(Attendance event) {
+            int index = next++;
+            String error = validate(event);
+            if (error == null && attendanceArchiveService.isReadOnly(event.getDate())) {
+                error = "date falls in an archived period";
+            }
+            if (error != null) {
+                results.add(new BulkItemResult(index, REJECTED, error));
+                return;
+            }
+            if (event.getCheckInTime() == null) {
+                checkOuts.add(new Pending(index, event));
+                if (checkOuts.size() >= batchSize) {
+                    flushInserts();
+                    flushCheckOuts();
+                }
+            } else {
+                inserts.add(new Pending(index, event));
+                if (inserts.size() >= batchSize) {
+                    flushInserts();
+                }
+            }
+        }
+
+        void reject(String error) {
+            results.add(new BulkItemResult(next++, REJECTED, error));
+        }
+
+        BulkIngestResult finish() {
+            // Inserts go first so a check-out can close a check-in sent earlier in the same feed
+            flushInserts();
+            flushCheckOuts();
+            return new BulkIngestResult(results);
+        }
+
+        private void flushInserts() {
+            if (inserts.isEmpty()) {
+                return;
+            }
+            try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+                admit(inserts);
+                if (!inserts.isEmpty()) {
+                    writeInserts();
+                }
+            }
+            inserts.clear();
+        }
+
+        // Events were checked when buffered; the floor may have moved since, so check again under the guard
+        private void admit(List<Pending> pending) {
+            pending.removeIf(item -> {
+                if (attendanceArchiveService.isReadOnly(item.event().getDate())) {
+                    results.add(new BulkItemResult(item.index(), REJECTED, "date falls in an archived period"));
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        private void writeInserts() {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            try {
+                transaction.executeWithoutResult(status -> {
+                    KeyHolder keys = new GeneratedKeyHolder();
+                    jdbcTemplate.batchUpdate(INSERT_STATEMENT, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bindInsert(ps, inserts.get(i).event());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return inserts.size();
+                        }
+                    }, keys);
+                    List<Map<String, Object>> generated = keys.getKeyList();
+                    for (int i = 0; i < inserts.size(); i++) {
+                        inserts.get(i).event().setId(generatedId(generated.get(i)));
+                    }
+                    List<OutboxWriter.Entry> outbox = new ArrayList<>(inserts.size());
+                    List<AttendanceRollupService.Key> touched = new ArrayList<>(inserts.size());
+                    for (Pending pending : inserts) {
+                        outbox.add(outboxEntry(CREATED_EVENT, pending.event()));
+                        touched.add(rollupKey(pending.event()));
+                    }
+                    attendanceRollupService.refresh(touched);
+                    outboxWriter.appendAll(outbox);
+                });
+                for (Pending pending : inserts) {
+                    results.add(new BulkItemResult(pending.index(), CREATED, null));
+                    attendanceSummaryService.onCreated(pending.event());
+                }
+            } catch (DataAccessException e) {
+                // The chunk rolled back as a whole; replay it row by row to isolate the bad rows
+                for (Pending pending : inserts) {
+                    Attendance event = pending.event();
+                    try {
+                        transaction.executeWithoutResult(status -> {
+                            KeyHolder keys = new GeneratedKeyHolder();
+                            jdbcTemplate.update(connection -> {
+                                PreparedStatement ps = INSERT_STATEMENT.createPreparedStatement(connection);
+                                bindInsert(ps, event);
+                                return ps;
+                            }, keys);
+                            event.setId(generatedId(keys.getKeys()));
+                            attendanceRollupService.refresh(List.of(rollupKey(event)));
+                            outboxWriter.appendAll(List.of(outboxEntry(CREATED_EVENT, event)));
+                        });
+                        results.add(new BulkItemResult(pending.index(), CREATED, null));
+                        attendanceSummaryService.onCreated(event);
+                    } catch (DataAccessException rowError) {
+                        results.add(new BulkItemResult(pending.index(), REJECTED, rowError.getMostSpecificCause().getMessage()));
+                    }
+                }
+            }
+        }
+
+        private void flushCheckOuts() {
+            if (checkOuts.isEmpty()) {
+                return;
+            }
+            try (AttendanceArchiveService.WriteGuard guard = attendanceArchiveService.guardWrites()) {
+                admit(checkOuts);
+                if (!checkOuts.isEmpty()) {
+                    writeCheckOuts();
+                }
+            }
+            checkOuts.clear();
+        }
+
+        private void writeCheckOuts() {
+            List<Object[]> args = new ArrayList<>(checkOuts.size());
+            for (Pending pending : checkOuts) {
+                Attendance event = pending.event();
+                args.add(new Object[] {Time.valueOf(event.getCheckOutTime()), event.getEmployeeId(), Date.valueOf(event.getDate())});
+            }
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            try {
+                int[] counts = transaction.execute(status -> {
+                    int[] updated = jdbcTemplate.batchUpdate(CHECK_OUT_SQL, args);
+                    List<OutboxWriter.Entry> outbox = new ArrayList<>(checkOuts.size());
+                    List<AttendanceRollupService.Key> touched = new ArrayList<>(checkOuts.size());
+                    for (int i = 0; i < updated.length; i++) {
+                        if (updated[i] != 0) {
+                            outbox.add(outboxEntry(CHECKED_OUT_EVENT, checkOuts.get(i).event()));
+                            touched.add(rollupKey(checkOuts.get(i).event()));
+                        }
+                    }
+                    attendanceRollupService.refresh(touched);
+                    outboxWriter.appendAll(outbox);
+                    return updated;
+                });
+                for (int i = 0; i < checkOuts.size(); i++) {
+                    results.add(counts[i] == 0
+                            ? new BulkItemResult(checkOuts.get(i).index(), REJECTED, "No open check-in for employee on date")
+                            : new BulkItemResult(checkOuts.get(i).index(), CHECKED_OUT, null));
+                }
+            } catch (DataAccessException e) {
+                for (int i = 0; i < checkOuts.size(); i++) {
+                    Attendance event = checkOuts.get(i).event();
+                    Object[] rowArgs = args.get(i);
+                    try {
+                        int count = transaction.execute(status -> {
+                            int updated = jdbcTemplate.update(CHECK_OUT_SQL, rowArgs);
+                            if (updated != 0) {
+                                attendanceRollupService.refresh(List.of(rollupKey(event)));
+                                outboxWriter.appendAll(List.of(outboxEntry(CHECKED_OUT_EVENT, event)));
+                            }
+                            return updated;
+                        });
+                        results.add(count == 0
+                                ? new BulkItemResult(checkOuts.get(i).index(), REJECTED, "No open check-in for employee on date")
+                                : new BulkItemResult(checkOuts.get(i).index(), CHECKED_OUT, null));
+                    } catch (DataAccessException rowError) {
+                        results.add(new BulkItemResult(checkOuts.get(i).index(), REJECTED, rowError.getMostSpecificCause().getMessage()));
+                    }
+                }
+            }
+        }
+    }
+}
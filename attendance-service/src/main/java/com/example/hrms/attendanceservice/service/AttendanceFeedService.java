@@ -0,0 +1,259 @@
+package com.example.hrms.attendanceservice.service;
+
+import com.example.hrms.events.DomainEvent;
+import com.example.hrms.events.EventBroker;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live attendance feed over Server-Sent Events. Attendance events arrive from the outbox
+ * relay and fan out to every subscriber's bounded buffer; the outbox id is the SSE event id.
+ *
+ * <p>Idle subscribers hold no thread: the emitter is an async servlet response. Each buffer
+ * coalesces by attendance row (employee and date), so a slow client gets the latest state of a
+ * row rather than every intermediate change. If it still overflows, the oldest entries are
+ * dropped and the client is sent a {@code resync} event telling it to refetch. Writes run on
+ * virtual threads, so a client with a full TCP window blocks only its own writer.
+ *
+ * <p>Resume replays from a bounded in-memory history; a Last-Event-ID older than that history
+ * also gets {@code resync}. The history is per instance, which matches the single
+ * attendance-service replica deployed today.
+ */
+@Service
+public class AttendanceFeedService {
+    private static final Set<String> FEED_TYPES = Set.of(
+            "attendance.created", "attendance.updated", "attendance.deleted",
+            "attendance.checked-in", "attendance.checked-out");
+    private static final String RESYNC = "resync";
+    // Covers many rows at once, so clients are told to refetch rather than sent a row event
+    private static final String RANGE_DELETED = "attendance.range-deleted";
+
+    @Autowired
+    private EventBroker eventBroker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${hrms.attendance.feed.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${hrms.attendance.feed.history-size:2000}")
+    private int historySize;
+
+    @Value("${hrms.attendance.feed.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @Value("${hrms.attendance.feed.timeout:30m}")
+    private Duration timeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<DomainEvent> history = new ArrayDeque<>();
+    // Outbox ids of the events in history; a batch the relay retries is not pushed to subscribers twice
+    private final Set<Long> historyIds = new HashSet<>();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "attendance-feed-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Counter dropped;
+
+    @PostConstruct
+    public void init() {
+        dropped = meterRegistry.counter("hrms.attendance.feed.dropped");
+        Gauge.builder("hrms.attendance.feed.subscribers", subscribers, Set::size).register(meterRegistry);
+        eventBroker.subscribe("attendance.", this::onEvent);
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        writers.shutdown();
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Register and snapshot under the history lock so no event falls between replay and live delivery
+        synchronized (history) {
+            subscribers.add(subscriber);
+            if (lastEventId != null) {
+                DomainEvent oldest = history.peekFirst();
+                if (oldest != null && oldest.getId() > lastEventId + 1) {
+                    subscriber.overflowed = true;
+                } else {
+                    for (DomainEvent event : history) {
+                        if (event.getId() > lastEventId) {
+                            subscriber.offer(event);
+                        }
+                    }
+                }
+            }
+        }
+        // An immediate comment commits the response headers, so proxies see the stream open at once
+        subscriber.heartbeatDue = true;
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    private void onEvent(DomainEvent event) {
+        if (RANGE_DELETED.equals(event.getType())) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.requestResync();
+                scheduleDrain(subscriber);
+            }
+            return;
+        }
+        if (!FEED_TYPES.contains(event.getType())) {
+            return;
+        }
+        synchronized (history) {
+            if (!historyIds.add(event.getId())) {
+                return;
+            }
+            history.addLast(event);
+            while (history.size() > historySize) {
+                historyIds.remove(history.removeFirst().getId());
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.claimWriter()) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    // At most one writer per subscriber; it keeps going until the buffer is empty
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                Batch batch = subscriber.take();
+                if (batch == null) {
+                    return;
+                }
+                if (batch.resync) {
+                    subscriber.emitter.send(SseEmitter.event().name(RESYNC).data("{}", MediaType.APPLICATION_JSON));
+                }
+                for (DomainEvent event : batch.events) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getId()))
+                            .name(event.getType().substring("attendance.".length()))
+                            .data(event.getPayload(), MediaType.APPLICATION_JSON));
+                }
+                if (batch.heartbeat) {
+                    subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks remove it
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private record Batch(List<DomainEvent> events, boolean resync, boolean heartbeat) {}
+
+    private class Subscriber {
+        final SseEmitter emitter;
+        // Keyed by attendance row, so a newer event for the same row replaces the queued one
+        private final LinkedHashMap<String, DomainEvent> pending = new LinkedHashMap<>();
+        private boolean writing;
+        boolean overflowed;
+        volatile boolean heartbeatDue;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(DomainEvent event) {
+            String key = rowKey(event);
+            pending.remove(key);
+            pending.put(key, event);
+            if (pending.size() > bufferSize) {
+                Iterator<Map.Entry<String, DomainEvent>> oldest = pending.entrySet().iterator();
+                oldest.next();
+                oldest.remove();
+                overflowed = true;
+                dropped.increment();
+            }
+        }
+
+        synchronized void requestResync() {
+            overflowed = true;
+        }
+
+        synchronized boolean claimWriter() {
+            if (writing) {
+                return false;
+            }
+            writing = true;
+            return true;
+        }
+
+        synchronized Batch take() {
+            boolean heartbeatNow = heartbeatDue;
+            if (pending.isEmpty() && !overflowed && !heartbeatNow) {
+                writing = false;
+                return null;
+            }
+            heartbeatDue = false;
+            Batch batch = new Batch(new ArrayList<>(pending.values()), overflowed, heartbeatNow && pending.isEmpty());
+            pending.clear();
+            overflowed = false;
+            return batch;
+        }
+    }
+
+    private static String rowKey(DomainEvent event) {
+        JsonNode payload = event.getPayload();
+        JsonNode date = payload == null ? null : payload.get("date");
+        return event.getAggregateId() + "|" + (date == null ? event.getId() : date.asText());
+    }
+}
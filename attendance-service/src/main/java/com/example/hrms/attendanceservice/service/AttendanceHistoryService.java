@@ -0,0 +1,78 @@
+package com.example.hrms.attendanceservice.service;
+
+import com.example.hrms.attendanceservice.entity.Attendance;
+import com.example.hrms.attendanceservice.repository.AttendanceRepository;
+import com.example.hrms.attendanceservice.repository.EmployeeDaysPresent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Date-based attendance reads across the live table and the archive. The part of a range before
+ * the archive horizon is answered from the archived month files, the rest from
+ * {@link AttendanceRepository}; a range entirely after the horizon never touches the archive.
+ */
+@Service
+public class AttendanceHistoryService {
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceArchiveService attendanceArchiveService;
+
+    /** Same contract as {@link AttendanceRepository#findByEmployeeIdAndDateBetweenOrderByDateAsc}. */
+    public List<Attendance> findByEmployee(Long employeeId, LocalDate from, LocalDate to) {
+        LocalDate horizon = attendanceArchiveService.getHorizon();
+        if (horizon == null || from.isAfter(to) || !from.isBefore(horizon)) {
+            return attendanceRepository.findByEmployeeIdAndDateBetweenOrderByDateAsc(employeeId, from, to);
+        }
+        List<Attendance> rows = new ArrayList<>();
+        attendanceArchiveService.scan(from, to, row -> {
+            if (employeeId.equals(row.getEmployeeId())) {
+                rows.add(row);
+            }
+        });
+        if (!to.isBefore(horizon)) {
+            rows.addAll(attendanceRepository.findByEmployeeIdAndDateBetweenOrderByDateAsc(employeeId, horizon, to));
+        }
+        return rows;
+    }
+
+    /** Same contract as {@link AttendanceRepository#findByDateOrderByEmployeeIdAsc}. */
+    public List<Attendance> findByDate(LocalDate date) {
+        if (!attendanceArchiveService.isArchived(date)) {
+            return attendanceRepository.findByDateOrderByEmployeeIdAsc(date);
+        }
+        // Archive files are written in (employee, date) order, so the result is already sorted
+        List<Attendance> rows = new ArrayList<>();
+        attendanceArchiveService.scan(date, date, rows::add);
+        return rows;
+    }
+
+    /** Days with a check-in per employee over [from, to], as {@link AttendanceRepository#countDaysPresent}. */
+    public Map<Long, Long> countDaysPresent(LocalDate from, LocalDate to) {
+        Map<Long, Long> daysPresent = new HashMap<>();
+        LocalDate horizon = attendanceArchiveService.getHorizon();
+        LocalDate liveFrom = from;
+        if (horizon != null && from.isBefore(horizon) && !from.isAfter(to)) {
+            attendanceArchiveService.scan(from, to, row -> {
+                if (row.getCheckInTime() != null) {
+                    daysPresent.merge(row.getEmployeeId(), 1L, Long::sum);
+                }
+            });
+            liveFrom = horizon;
+        }
+        if (!liveFrom.isAfter(to)) {
+            for (EmployeeDaysPresent row : attendanceRepository.countDaysPresent(liveFrom, to)) {
+                daysPresent.merge(row.getEmployeeId(), row.getDays(), Long::sum);
+            }
+        }
+        return daysPresent;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.hrms.attendanceservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps {@code attendances} range-partitioned by month on MySQL, so archiving a month is a
+ * metadata-only DROP PARTITION and date-bounded queries prune to the months they touch.
+ * Elsewhere (H2) or when partitioning is disabled the table stays as it is and purges fall back
+ * to batched deletes.
+ */
+@Service
+public class AttendancePartitionService {
+    private static final Logger log = LoggerFactory.getLogger(AttendancePartitionService.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String PARTITIONS_SQL = "select partition_name from information_schema.partitions "
+            + "where table_schema = database() and table_name = 'attendances' and partition_name is not null "
+            + "order by partition_ordinal_position";
+    private static final int DELETE_BATCH = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${hrms.attendance.partitioning.enabled:true}")
+    private boolean enabled;
+
+    // Empty partitions kept ahead of today, so inserts never land in the catch-all pmax
+    @Value("${hrms.attendance.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * Partitions the table on first run, then adds partitions up to {@code monthsAhead} months out.
+     * The first run rebuilds the table once (the primary key must include the partitioning column).
+     */
+    public synchronized void maintain() {
+        if (!enabled || !isMySql()) {
+            return;
+        }
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+        try {
+            if (partitions.isEmpty()) {
+                partitionTable(last);
+            } else {
+                addPartitions(partitions, last);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not partition attendances; archival will purge with batched deletes", e);
+        }
+    }
+
+    /** Removes every live row dated before {@code horizon}: whole partitions first, then any stragglers. */
+    public int purgeBefore(LocalDate horizon) {
+        int purged = 0;
+        if (enabled && isMySql()) {
+            for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+                YearMonth month = monthOf(partition);
+                if (month != null && !month.plusMonths(1).atDay(1).isAfter(horizon)) {
+                    jdbcTemplate.execute("alter table attendances drop partition " + partition);
+                    log.info("Dropped attendance partition {}", partition);
+                }
+            }
+        }
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("delete from attendances where date < ? limit " + DELETE_BATCH,
+                    Date.valueOf(horizon));
+            purged += deleted;
+        } while (deleted == DELETE_BATCH);
+        return purged;
+    }
+
+    private void partitionTable(YearMonth last) {
+        LocalDate firstDay = jdbcTemplate.queryForObject("select min(date) from attendances", LocalDate.class);
+        YearMonth first = firstDay == null ? YearMonth.now() : YearMonth.from(firstDay);
+        StringBuilder ddl = new StringBuilder("alter table attendances partition by range columns(date) (");
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            ddl.append(partitionClause(month)).append(", ");
+        }
+        ddl.append("partition pmax values less than (maxvalue))");
+
+        long started = System.nanoTime();
+        jdbcTemplate.execute("alter table attendances drop primary key, add primary key (id, date)");
+        jdbcTemplate.execute(ddl.toString());
+        log.info("Partitioned attendances by month {}..{} in {} ms", first, last,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private void addPartitions(List<String> partitions, YearMonth last) {
+        YearMonth newest = null;
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && (newest == null || month.isAfter(newest))) {
+                newest = month;
+            }
+        }
+        if (newest == null || !newest.isBefore(last)) {
+            return;
+        }
+        // pmax is empty while months-ahead partitions exist, so reorganizing it moves no rows
+        List<String> clauses = new ArrayList<>();
+        for (YearMonth month = newest.plusMonths(1); !month.isAfter(last); month = month.plusMonths(1)) {
+            clauses.add(partitionClause(month));
+        }
+        jdbcTemplate.execute("alter table attendances reorganize partition pmax into ("
+                + String.join(", ", clauses) + ", partition pmax values less than (maxvalue))");
+        log.info("Added attendance partitions {}..{}", newest.plusMonths(1), last);
+    }
+
+    private static String partitionClause(YearMonth month) {
+        return "partition " + PARTITION_NAME.format(month.atDay(1))
+                + " values less than ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    // Null for pmax or anything not named by this class
+    private static YearMonth monthOf(String partition) {
+        if (partition.length() != 7 || partition.charAt(0) != 'p') {
+            return null;
+        }
+        try {
+            return YearMonth.of(Integer.parseInt(partition.substring(1, 5)), Integer.parseInt(partition.substring(5)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+}
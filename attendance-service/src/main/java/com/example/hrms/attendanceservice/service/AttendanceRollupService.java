@@ -0,0 +1,260 @@
+package com.example.hrms.attendanceservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Maintains per-employee daily and monthly attendance rollups. Every write path calls
+ * {@link #refresh} inside its own transaction with the (employee, day) keys it touched; the
+ * daily rows are recomputed from those attendance rows and the affected months from their
+ * daily rows, so maintenance is idempotent and costs O(days in a month) per key regardless of
+ * table size. {@link #rebuild} backfills a date range month by month with set-based SQL.
+ */
+@Service
+public class AttendanceRollupService {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceRollupService.class);
+
+    private static final String LOAD_SQL = "select employee_id, date, check_in_time, check_out_time from attendances "
+            + "where employee_id in (:employeeIds) and date in (:dates)";
+    private static final String UPSERT_DAILY_SQL = "insert into attendance_daily_rollups "
+            + "(employee_id, date, present, late, worked_minutes) values (?, ?, ?, ?, ?) "
+            + "on duplicate key update present = values(present), late = values(late), worked_minutes = values(worked_minutes)";
+    private static final String DELETE_DAILY_SQL = "delete from attendance_daily_rollups where employee_id = ? and date = ?";
+    private static final String DELETE_MONTHLY_SQL = "delete from attendance_monthly_rollups where employee_id = ? and month_start = ?";
+    private static final String INSERT_MONTHLY_SQL = "insert into attendance_monthly_rollups "
+            + "(employee_id, month_start, days_present, late_days, worked_minutes) "
+            + "select employee_id, ?, sum(present), sum(late), sum(worked_minutes) from attendance_daily_rollups "
+            + "where employee_id = ? and date >= ? and date < ? group by employee_id";
+
+    private static final String REBUILD_DELETE_DAILY_SQL = "delete from attendance_daily_rollups where date >= ? and date < ?";
+    private static final String REBUILD_DAILY_SQL = "insert into attendance_daily_rollups "
+            + "(employee_id, date, present, late, worked_minutes) "
+            + "select employee_id, date, "
+            + "case when check_in_time is not null then 1 else 0 end, "
+            + "case when check_in_time > ? then 1 else 0 end, "
+            + "case when check_in_time is not null and check_out_time > check_in_time "
+            + "then (time_to_sec(check_out_time) - time_to_sec(check_in_time)) div 60 else 0 end "
+            + "from attendances where date >= ? and date < ?";
+    private static final String REBUILD_DELETE_MONTHLY_SQL = "delete from attendance_monthly_rollups where month_start = ?";
+    private static final String REBUILD_MONTHLY_SQL = "insert into attendance_monthly_rollups "
+            + "(employee_id, month_start, days_present, late_days, worked_minutes) "
+            + "select employee_id, ?, sum(present), sum(late), sum(worked_minutes) from attendance_daily_rollups "
+            + "where date >= ? and date < ? group by employee_id";
+
+    /** An attendance row's identity: the table allows one row per employee and day. */
+    public record Key(Long employeeId, LocalDate date) {}
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // A check-in after this time counts as late; changing it needs a rebuild of the affected range
+    private final LocalTime lateAfter;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "attendance-rollup-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Map<String, Object> lastRebuild = Map.of("running", false);
+
+    public AttendanceRollupService(@Value("${hrms.attendance.rollup.late-after:09:15}") String lateAfter) {
+        this.lateAfter = LocalTime.parse(lateAfter);
+    }
+
+    public void refresh(Long employeeId, LocalDate date) {
+        if (employeeId != null && date != null) {
+            refresh(List.of(new Key(employeeId, date)));
+        }
+    }
+
+    /** Recomputes the given days and their months; must run inside the write's transaction. */
+    public void refresh(Collection<Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Rollups must be refreshed inside the attendance write transaction");
+        }
+        Set<Key> wanted = new LinkedHashSet<>();
+        Set<Long> employeeIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (Key key : keys) {
+            if (key.employeeId() != null && key.date() != null) {
+                wanted.add(key);
+                employeeIds.add(key.employeeId());
+                dates.add(key.date());
+            }
+        }
+        if (wanted.isEmpty()) {
+            return;
+        }
+
+        // (employee, date) is unique, so one IN/IN query loads every wanted row; extra pairs are ignored
+        Map<Key, Object[]> daily = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(LOAD_SQL,
+                new MapSqlParameterSource().addValue("employeeIds", employeeIds).addValue("dates", dates),
+                rs -> {
+                    Key key = new Key(rs.getLong("employee_id"), rs.getDate("date").toLocalDate());
+                    if (wanted.contains(key)) {
+                        Time checkIn = rs.getTime("check_in_time");
+                        Time checkOut = rs.getTime("check_out_time");
+                        daily.put(key, dailyRow(key, checkIn == null ? null : checkIn.toLocalTime(),
+                                checkOut == null ? null : checkOut.toLocalTime()));
+                    }
+                });
+
+        List<Object[]> deletes = new ArrayList<>();
+        Set<Map.Entry<Long, YearMonth>> months = new LinkedHashSet<>();
+        for (Key key : wanted) {
+            if (!daily.containsKey(key)) {
+                deletes.add(new Object[] {key.employeeId(), Date.valueOf(key.date())});
+            }
+            months.add(Map.entry(key.employeeId(), YearMonth.from(key.date())));
+        }
+        if (!daily.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, new ArrayList<>(daily.values()));
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_DAILY_SQL, deletes);
+        }
+
+        List<Object[]> monthDeletes = new ArrayList<>(months.size());
+        List<Object[]> monthInserts = new ArrayList<>(months.size());
+        for (Map.Entry<Long, YearMonth> month : months) {
+            Date start = Date.valueOf(month.getValue().atDay(1));
+            monthDeletes.add(new Object[] {month.getKey(), start});
+            monthInserts.add(new Object[] {start, month.getKey(), start, Date.valueOf(month.getValue().plusMonths(1).atDay(1))});
+        }
+        jdbcTemplate.batchUpdate(DELETE_MONTHLY_SQL, monthDeletes);
+        jdbcTemplate.batchUpdate(INSERT_MONTHLY_SQL, monthInserts);
+    }
+
+    /** Recomputes an employee's rollups over [from, to] after a range delete; same transaction rules as refresh. */
+    public void refreshRange(Long employeeId, LocalDate from, LocalDate to) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Rollups must be refreshed inside the attendance write transaction");
+        }
+        // The range's attendance rows are gone, so its daily rollups go with them in one statement
+        jdbcTemplate.update("delete from attendance_daily_rollups where employee_id = ? and date between ? and ?",
+                employeeId, Date.valueOf(from), Date.valueOf(to));
+
+        List<Object[]> monthDeletes = new ArrayList<>();
+        List<Object[]> monthInserts = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            Date start = Date.valueOf(month.atDay(1));
+            monthDeletes.add(new Object[] {employeeId, start});
+            monthInserts.add(new Object[] {start, employeeId, start, Date.valueOf(month.plusMonths(1).atDay(1))});
+        }
+        jdbcTemplate.batchUpdate(DELETE_MONTHLY_SQL, monthDeletes);
+        jdbcTemplate.batchUpdate(INSERT_MONTHLY_SQL, monthInserts);
+    }
+
+    /** Drops every rollup of an employee whose attendance rows were purged. */
+    public void deleteEmployee(Long employeeId) {
+        jdbcTemplate.update("delete from attendance_daily_rollups where employee_id = ?", employeeId);
+        jdbcTemplate.update("delete from attendance_monthly_rollups where employee_id = ?", employeeId);
+    }
+
+    /** Starts a backfill of whole months covering [from, to]; returns false if one is already running. */
+    public synchronized boolean startRebuild(YearMonth from, YearMonth to) {
+        if (Boolean.TRUE.equals(lastRebuild.get("running"))) {
+            return false;
+        }
+        lastRebuild = Map.of("running", true, "from", from.toString(), "to", to.toString(), "startedAt", Instant.now().toString());
+        rebuildExecutor.execute(() -> rebuild(from, to));
+        return true;
+    }
+
+    public Map<String, Object> getRebuildStatus() {
+        return lastRebuild;
+    }
+
+    // One transaction per month keeps lock footprint and undo log bounded during large backfills
+    private void rebuild(YearMonth from, YearMonth to) {
+        long started = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Map<String, Object> status = new HashMap<>(lastRebuild);
+        try {
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                Date start = Date.valueOf(month.atDay(1));
+                Date end = Date.valueOf(month.plusMonths(1).atDay(1));
+                transaction.executeWithoutResult(tx -> {
+                    jdbcTemplate.update(REBUILD_DELETE_DAILY_SQL, start, end);
+                    jdbcTemplate.update(REBUILD_DAILY_SQL, Time.valueOf(lateAfter), start, end);
+                    jdbcTemplate.update(REBUILD_DELETE_MONTHLY_SQL, start);
+                    jdbcTemplate.update(REBUILD_MONTHLY_SQL, start, start, end);
+                });
+                status.put("completedThrough", month.toString());
+            }
+            status.put("result", "COMPLETED");
+            log.info("Rebuilt attendance rollups {}..{} in {} ms", from, to, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (RuntimeException e) {
+            status.put("result", "FAILED");
+            status.put("error", e.getMessage());
+            log.error("Attendance rollup rebuild {}..{} failed", from, to, e);
+        } finally {
+            status.put("running", false);
+            status.put("finishedAt", Instant.now().toString());
+            lastRebuild = Map.copyOf(status);
+        }
+    }
+
+    // Backfills once when the rollup tables are introduced on an existing database
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        Integer rollups = jdbcTemplate.queryForObject("select count(*) from (select 1 from attendance_daily_rollups limit 1) r", Integer.class);
+        if (rollups != null && rollups > 0) {
+            return;
+        }
+        Map<String, Object> range = jdbcTemplate.queryForMap("select min(date) as first_day, max(date) as last_day from attendances");
+        if (range.get("first_day") != null) {
+            startRebuild(YearMonth.from(((Date) range.get("first_day")).toLocalDate()),
+                    YearMonth.from(((Date) range.get("last_day")).toLocalDate()));
+        }
+    }
+
+    private Object[] dailyRow(Key key, LocalTime checkIn, LocalTime checkOut) {
+        int present = checkIn != null ? 1 : 0;
+        int late = checkIn != null && checkIn.isAfter(lateAfter) ? 1 : 0;
+        int workedMinutes = checkIn != null && checkOut != null && checkOut.isAfter(checkIn)
+                ? (int) Duration.between(checkIn, checkOut).toMinutes()
+                : 0;
+        return new Object[] {key.employeeId(), Date.valueOf(key.date()), present, late, workedMinutes};
+    }
+}
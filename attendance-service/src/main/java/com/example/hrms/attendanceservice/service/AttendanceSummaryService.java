@@ -0,0 +1,110 @@
+package com.example.hrms.attendanceservice.service;
+
+import com.example.hrms.attendanceservice.dto.AttendanceSummary;
+import com.example.hrms.attendanceservice.entity.Attendance;
+import com.example.hrms.attendanceservice.repository.AttendanceArchiveRepository;
+import com.example.hrms.attendanceservice.repository.AttendanceRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps dashboard attendance counts in memory. Seeded on startup (and once per day
+ * when the date rolls over), then adjusted by the controller on every write.
+ */
+@Service
+public class AttendanceSummaryService {
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceArchiveRepository attendanceArchiveRepository;
+
+    // Distinguishes versions across restarts so a stale If-None-Match never matches
+    private final String bootId = Long.toHexString(System.currentTimeMillis());
+    // employeeId -> number of today's records carrying a check-in
+    private final Map<Long, Integer> checkInsToday = new HashMap<>();
+    private LocalDate today;
+    private long totalRecords;
+    private long version;
+    private volatile AttendanceSummary snapshot;
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        // Archived rows still count; archival moves them without changing the total
+        totalRecords = attendanceRepository.count() + attendanceArchiveRepository.sumRowCount();
+        loadToday(LocalDate.now());
+        publish();
+    }
+
+    public AttendanceSummary getSummary() {
+        AttendanceSummary current = snapshot;
+        if (!current.getDate().equals(LocalDate.now())) {
+            return rollOver();
+        }
+        return current;
+    }
+
+    public synchronized void onCreated(Attendance attendance) {
+        totalRecords++;
+        track(attendance.getEmployeeId(), attendance.getDate(), attendance.getCheckInTime(), 1);
+        publish();
+    }
+
+    public synchronized void onUpdated(Long previousEmployeeId, LocalDate previousDate, LocalTime previousCheckIn,
+                                       Attendance attendance) {
+        track(previousEmployeeId, previousDate, previousCheckIn, -1);
+        track(attendance.getEmployeeId(), attendance.getDate(), attendance.getCheckInTime(), 1);
+        publish();
+    }
+
+    public synchronized void onDeleted(Attendance attendance) {
+        totalRecords--;
+        track(attendance.getEmployeeId(), attendance.getDate(), attendance.getCheckInTime(), -1);
+        publish();
+    }
+
+    public synchronized void onRangeDeleted(Long employeeId, LocalDate from, LocalDate to, int deleted) {
+        totalRecords -= deleted;
+        if (today != null && !today.isBefore(from) && !today.isAfter(to)) {
+            checkInsToday.remove(employeeId);
+        }
+        publish();
+    }
+
+    private synchronized AttendanceSummary rollOver() {
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            loadToday(now);
+            publish();
+        }
+        return snapshot;
+    }
+
+    private void loadToday(LocalDate date) {
+        today = date;
+        checkInsToday.clear();
+        for (Long employeeId : attendanceRepository.findCheckedInEmployeeIds(date)) {
+            checkInsToday.merge(employeeId, 1, Integer::sum);
+        }
+    }
+
+    private void track(Long employeeId, LocalDate date, LocalTime checkIn, int delta) {
+        if (employeeId == null || checkIn == null || !today.equals(date)) {
+            return;
+        }
+        checkInsToday.merge(employeeId, delta, (a, b) -> a + b <= 0 ? null : a + b);
+    }
+
+    private void publish() {
+        version++;
+        snapshot = new AttendanceSummary(totalRecords, today, checkInsToday.size(),
+                "\"" + bootId + "-" + version + "\"");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.hrms.attendanceservice.service;
+
+import com.example.hrms.attendanceservice.repository.AttendanceRepository;
+import com.example.hrms.employeeclient.EmployeeDirectory;
+import com.example.hrms.events.DomainEvent;
+import com.example.hrms.events.EventBroker;
+import com.example.hrms.events.OutboxWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Reacts to employee-service changes pushed through the outbox relay: evicts stale
+ * enrichment entries and removes attendance rows of deleted employees. Redelivery is harmless
+ * because both actions are idempotent.
+ */
+@Component
+public class EmployeeEventHandler {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeEventHandler.class);
+
+    @Autowired
+    private EventBroker eventBroker;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceSummaryService attendanceSummaryService;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void subscribe() {
+        eventBroker.subscribe("employee.updated", event -> employeeDirectory.invalidate(employeeId(event)));
+        eventBroker.subscribe("employee.salary-raised", this::onSalaryRaised);
+        eventBroker.subscribe("employee.deleted", this::onEmployeeDeleted);
+    }
+
+    private void onEmployeeDeleted(DomainEvent event) {
+        Long employeeId = employeeId(event);
+        employeeDirectory.invalidate(employeeId);
+        int deleted = new TransactionTemplate(transactionManager).execute(status -> {
+            int count = attendanceRepository.deleteByEmployeeId(employeeId);
+            attendanceRollupService.deleteEmployee(employeeId);
+            if (count > 0) {
+                outboxWriter.append("attendance", employeeId, "attendance.employee-purged", Map.of("employeeId", employeeId, "deleted", count));
+            }
+            return count;
+        });
+        if (deleted > 0) {
+            attendanceSummaryService.rebuild();
+            log.info("Removed {} attendance record(s) of deleted employee {}", deleted, employeeId);
+        }
+    }
+
+    // One event per department raise; it carries every updated employee row
+    private void onSalaryRaised(DomainEvent event) {
+        for (JsonNode employee : event.getPayload().path("employees")) {
+            employeeDirectory.invalidate(employee.path("id").asLong());
+        }
+    }
+
+    private static Long employeeId(DomainEvent event) {
+        return Long.valueOf(event.getAggregateId());
+    }
+}
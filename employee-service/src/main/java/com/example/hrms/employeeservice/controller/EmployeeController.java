@@ -1,14 +1,39 @@
 package com.example.hrms.employeeservice.controller;
 
+import com.example.hrms.employeeservice.dto.EmployeePatch;
+import com.example.hrms.employeeservice.dto.EmployeeSearchResult;
+import com.example.hrms.employeeservice.dto.EmployeeSummary;
 import com.example.hrms.employeeservice.entity.Employee;
 import com.example.hrms.employeeservice.repository.EmployeeRepository;
+import com.example.hrms.employeeservice.service.EmployeeCacheService;
+import com.example.hrms.employeeservice.service.EmployeeSearchService;
+import com.example.hrms.employeeservice.service.EmployeeSummaryService;
+import com.example.hrms.events.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/employees")
@@ -16,20 +41,136 @@ public class EmployeeController {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeCacheService employeeCacheService;
+
+    @Autowired
+    private EmployeeSummaryService employeeSummaryService;
+
+    @Autowired
+    private EmployeeSearchService employeeSearchService;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hrms.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${hrms.pagination.max-size:1000}")
+    private int maxPageSize;
+
     @GetMapping
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    // Read-only, so the page is served by a read replica when one is configured
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Employee>> getAllEmployees(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(employeeRepository.findAll());
+        }
+
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<Employee> page = employeeRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        // A full page means there may be more rows; hand back the last id as the cursor for the next call
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @Transactional(readOnly = true)
+    public void streamEmployees(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        ObjectWriter writer = objectMapper.writer();
+        OutputStream out = response.getOutputStream();
+
+        try (Stream<Employee> employees = employeeRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee row = iterator.next();
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+                // Detach so the persistence context does not grow with the export
+                entityManager.detach(row);
+            }
+        }
+        out.flush();
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<EmployeeSummary> getEmployeeSummary(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EmployeeSummary summary = employeeSummaryService.getSummary();
+        if (summary.getETag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(summary.getETag()).build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(summary.getETag())
+            .body(summary);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchEmployees(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String designation,
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Double maxSalary,
+            @RequestParam(required = false) Integer size) {
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            return ResponseEntity.badRequest().body("minSalary must not exceed maxSalary");
+        }
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        EmployeeSearchResult result = employeeSearchService.search(q, fuzzy, department, designation, minSalary, maxSalary, pageSize);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/ids")
+    public List<Long> getEmployeeIdsByDepartment(@RequestParam String department) {
+        return employeeSearchService.idsInDepartment(department);
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<?> getEmployeesByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > maxPageSize) {
+            return ResponseEntity.badRequest().body("At most " + maxPageSize + " ids per request");
+        }
+        return ResponseEntity.ok(employeeCacheService.findAllById(ids));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
-        Optional<Employee> employee = employeeRepository.findById(id);
+        Optional<Employee> employee = employeeCacheService.findById(id);
         return employee.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PostMapping
     public Employee createEmployee(@RequestBody Employee employee) {
-        return employeeRepository.save(employee);
+        // The outbox row commits with the insert, so the event is never lost or sent for a rolled-back write
+        Employee savedEmployee = new TransactionTemplate(transactionManager).execute(status -> {
+            Employee saved = employeeRepository.save(employee);
+            outboxWriter.append("employee", saved.getId(), "employee.created", saved);
+            return saved;
+        });
+        employeeCacheService.invalidate(savedEmployee.getId());
+        employeeSummaryService.onCreated(savedEmployee);
+        employeeSearchService.onSaved(savedEmployee);
+        return savedEmployee;
     }
 
     @PutMapping("/{id}")
@@ -39,6 +180,7 @@ public class EmployeeController {
             
             if (optionalEmployee.isPresent()) {
                 Employee employee = optionalEmployee.get();
+                String previousDepartment = employee.getDepartment();
                 
                 // Update fields only if provided
                 if (updatedEmployee.getName() != null) {
@@ -54,7 +196,14 @@ public class EmployeeController {
                     employee.setSalary(updatedEmployee.getSalary());
                 }
                 
-                Employee savedEmployee = employeeRepository.save(employee);
+                Employee savedEmployee = new TransactionTemplate(transactionManager).execute(status -> {
+                    Employee saved = employeeRepository.save(employee);
+                    outboxWriter.append("employee", saved.getId(), "employee.updated", saved);
+                    return saved;
+                });
+                employeeCacheService.invalidate(id);
+                employeeSummaryService.onUpdated(previousDepartment, savedEmployee);
+                employeeSearchService.onSaved(savedEmployee);
                 return ResponseEntity.ok(savedEmployee);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -66,13 +215,101 @@ public class EmployeeController {
         }
     }
 
+    /**
+     * Partial update as one UPDATE statement, without loading the row first. Sending the version
+     * from a previous read turns it into an optimistic-lock check (409 if someone else wrote first).
+     * The updated row is read back by id in the same transaction so the event carries all of it.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchEmployee(@PathVariable Long id, @RequestBody EmployeePatch patch) {
+        Employee previous = employeeSearchService.get(id);
+        Integer updated = new TransactionTemplate(transactionManager).execute(status -> {
+            int count = employeeRepository.patch(id, patch.getName(), patch.getDesignation(), patch.getDepartment(),
+                patch.getSalary(), patch.getVersion());
+            if (count > 0) {
+                employeeRepository.findById(id)
+                    .ifPresent(saved -> outboxWriter.append("employee", id, "employee.updated", saved));
+            } else if (patch.getVersion() != null && employeeRepository.existsById(id)) {
+                return -1;
+            }
+            return count;
+        });
+        if (updated == 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body("Employee with id " + id + " not found");
+        }
+        if (updated < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Employee with id " + id + " was modified since version " + patch.getVersion());
+        }
+
+        employeeCacheService.invalidate(id);
+        Employee patched = employeeSearchService.onPatched(id, patch);
+        if (previous != null && patched != null) {
+            employeeSummaryService.onUpdated(previous.getDepartment(), patched);
+        } else {
+            employeeSummaryService.rebuild();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Raises (or with a negative percent, cuts) every salary in a department with one UPDATE. The
+     * department's rows are locked first and the UPDATE is limited to them, so the raise, its
+     * read-back and the single {@code employee.salary-raised} event all cover the same employees.
+     */
+    @PostMapping("/salary-raise")
+    public ResponseEntity<?> raiseSalaries(@RequestParam String department, @RequestParam double percent) {
+        if (!(percent > -100) || Double.isInfinite(percent)) {
+            return ResponseEntity.badRequest().body("percent must be greater than -100");
+        }
+        double factor = 1 + percent / 100;
+        List<Employee> raised = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> ids = employeeRepository.lockIdsForSalaryScale(department);
+            if (ids.isEmpty()) {
+                return List.<Employee>of();
+            }
+            employeeRepository.scaleSalaries(ids, factor);
+            List<Employee> saved = employeeRepository.findAllById(ids);
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("department", department);
+            payload.put("factor", factor);
+            payload.put("employees", saved);
+            outboxWriter.append("department", department, "employee.salary-raised", payload);
+            return saved;
+        });
+
+        List<Long> affected = raised.stream().map(Employee::getId).toList();
+        employeeCacheService.invalidateAll(affected);
+        employeeSearchService.onSalaryScaled(affected, factor);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("department", department);
+        result.put("percent", percent);
+        result.put("updated", affected.size());
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteEmployee(@PathVariable Long id) {
         try {
-            Optional<Employee> optionalEmployee = employeeRepository.findById(id);
-            
-            if (optionalEmployee.isPresent()) {
-                employeeRepository.delete(optionalEmployee.get());
+            // The search index already holds the row, so the delete itself is a single statement
+            Employee previous = employeeSearchService.get(id);
+            Integer deleted = new TransactionTemplate(transactionManager).execute(status -> {
+                int count = employeeRepository.removeById(id);
+                if (count > 0) {
+                    outboxWriter.append("employee", id, "employee.deleted", previous != null ? previous : Map.of("id", id));
+                }
+                return count;
+            });
+
+            if (deleted > 0) {
+                employeeCacheService.invalidate(id);
+                if (previous != null) {
+                    employeeSummaryService.onDeleted(previous);
+                } else {
+                    employeeSummaryService.rebuild();
+                }
+                employeeSearchService.onDeleted(id);
                 return ResponseEntity.noContent().build();
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -0,0 +1,23 @@
+package com.example.hrms.employeeservice.dto;
+
+/** Body of PATCH /employees/{id}: null fields are left unchanged, a non-null version must match. */
+public class EmployeePatch {
+    private String name;
+    private String designation;
+    private String department;
+    private Double salary;
+    private Long version;
+
+    public EmployeePatch() {}
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getDesignation() { return designation; }
+    public void setDesignation(String designation) { this.designation = designation; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Double getSalary() { return salary; }
+    public void setSalary(Double salary) { this.salary = salary; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
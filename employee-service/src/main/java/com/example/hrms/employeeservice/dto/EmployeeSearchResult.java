@@ -0,0 +1,25 @@
+package com.example.hrms.employeeservice.dto;
+
+import com.example.hrms.employeeservice.entity.Employee;
+
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeSearchResult {
+    private final long total;
+    private final List<Employee> hits;
+    private final Map<String, Long> departments;
+    private final Map<String, Long> designations;
+
+    public EmployeeSearchResult(long total, List<Employee> hits, Map<String, Long> departments, Map<String, Long> designations) {
+        this.total = total;
+        this.hits = hits;
+        this.departments = departments;
+        this.designations = designations;
+    }
+
+    public long getTotal() { return total; }
+    public List<Employee> getHits() { return hits; }
+    public Map<String, Long> getDepartments() { return departments; }
+    public Map<String, Long> getDesignations() { return designations; }
+}
@@ -0,0 +1,22 @@
+package com.example.hrms.employeeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Map;
+
+public class EmployeeSummary {
+    private final long headcount;
+    private final Map<String, Long> headcountByDepartment;
+    private final String eTag;
+
+    public EmployeeSummary(long headcount, Map<String, Long> headcountByDepartment, String eTag) {
+        this.headcount = headcount;
+        this.headcountByDepartment = headcountByDepartment;
+        this.eTag = eTag;
+    }
+
+    public long getHeadcount() { return headcount; }
+    public Map<String, Long> getHeadcountByDepartment() { return headcountByDepartment; }
+    @JsonIgnore
+    public String getETag() { return eTag; }
+}
@@ -1,9 +1,13 @@
 package com.example.hrms.employeeservice.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "employees")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee")
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,8 +17,25 @@ public class Employee {
     private String department;
     private Double salary;
 
+    // Bumped on every write; PATCH can send the version it read to reject lost updates
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+
     public Employee() {}
 
+    /** A detached copy, for caches and indexes that must not share instances with callers. */
+    public Employee copy() {
+        Employee copy = new Employee();
+        copy.id = id;
+        copy.name = name;
+        copy.designation = designation;
+        copy.department = department;
+        copy.salary = salary;
+        copy.version = version;
+        return copy;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getName() { return name; }
@@ -25,4 +46,6 @@ public class Employee {
     public void setDepartment(String department) { this.department = department; }
     public Double getSalary() { return salary; }
     public void setSalary(Double salary) { this.salary = salary; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
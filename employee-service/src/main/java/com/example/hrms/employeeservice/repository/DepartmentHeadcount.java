@@ -0,0 +1,6 @@
+package com.example.hrms.employeeservice.repository;
+
+public interface DepartmentHeadcount {
+    String getDepartment();
+    Long getHeadcount();
+}
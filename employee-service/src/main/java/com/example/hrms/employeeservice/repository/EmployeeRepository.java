@@ -1,7 +1,65 @@
 package com.example.hrms.employeeservice.repository;
 
 import com.example.hrms.employeeservice.entity.Employee;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    // Keyset page: rows strictly after the given id, seeking on the primary key index. Cached when
+    // the query cache is on (prod profile): the cached ids resolve through the employee region
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Forward-only cursor for full exports; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Employee> streamAllByOrderByIdAsc();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select e.department as department, count(e) as headcount from Employee e group by e.department")
+    List<DepartmentHeadcount> countByDepartment();
+
+    // Partial update in one statement: null arguments keep the column. A non-null version makes it
+    // conditional, so 0 rows means the employee is gone or someone else wrote first
+    @Modifying
+    @Query("update Employee e set e.name = coalesce(:name, e.name), e.designation = coalesce(:designation, e.designation), "
+            + "e.department = coalesce(:department, e.department), e.salary = coalesce(:salary, e.salary), "
+            + "e.version = e.version + 1 where e.id = :id and (:version is null or e.version = :version)")
+    int patch(@Param("id") Long id, @Param("name") String name, @Param("designation") String designation,
+              @Param("department") String department, @Param("salary") Double salary, @Param("version") Long version);
+
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int removeById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select e.id from Employee e where e.department = :department")
+    List<Long> findIdsByDepartment(@Param("department") String department);
+
+    // SELECT ... FOR UPDATE on the rows a department raise will touch, so no row joins or leaves
+    // the set between this read and the UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Employee e where e.department = :department and e.salary is not null")
+    List<Long> lockIdsForSalaryScale(@Param("department") String department);
+
+    // Set-based raise for the locked rows; factor 1.05 is +5%. Clears the persistence context so a
+    // read-back in the same transaction sees the new salaries
+    @Modifying(clearAutomatically = true)
+    @Query("update Employee e set e.salary = e.salary * :factor, e.version = e.version + 1 where e.id in :ids")
+    int scaleSalaries(@Param("ids") Collection<Long> ids, @Param("factor") double factor);
 }
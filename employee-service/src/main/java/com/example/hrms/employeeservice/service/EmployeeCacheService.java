@@ -0,0 +1,117 @@
+package com.example.hrms.employeeservice.service;
+
+import com.example.hrms.employeeservice.entity.Employee;
+import com.example.hrms.employeeservice.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through Caffeine cache in front of {@link EmployeeRepository}. Writes go to the
+ * repository and invalidate the affected id; hit/miss/eviction counts are published as
+ * cache.* meters on the actuator metrics endpoint under cache=employees.
+ *
+ * <p>The cache holds its own detached copies and every read returns a fresh copy, so a caller
+ * changing the entity it got back cannot change what the next caller sees.
+ */
+@Service
+public class EmployeeCacheService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${hrms.employee.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${hrms.employee.cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Long, Employee> cache;
+    // Bumped by every invalidation; batch loads only cache what they read if it did not move
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employees");
+    }
+
+    public Optional<Employee> findById(Long id) {
+        // Loaded inside the cache's per-key computation: an invalidate for this id waits for the
+        // load and then removes its result, so a row read just before a write cannot outlive it.
+        // Misses return null and are not cached, so a later insert for this id is visible immediately.
+        Employee cached = cache.get(id, key -> employeeRepository.findById(key).map(Employee::copy).orElse(null));
+        return Optional.ofNullable(cached).map(Employee::copy);
+    }
+
+    /** Serves what it can from the cache and loads the rest with a single IN query, in request order. */
+    public List<Employee> findAllById(Collection<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, Employee> found = new HashMap<>(cache.getAllPresent(requested));
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long before = invalidations.get();
+            Map<Long, Employee> loaded = new HashMap<>();
+            for (Employee employee : employeeRepository.findAllById(missing)) {
+                loaded.put(employee.getId(), employee.copy());
+            }
+            found.putAll(loaded);
+            // A write that committed during the query may have been missed by it; skip caching then,
+            // and undo the put if one slips in between the check and the put
+            if (invalidations.get() == before) {
+                cache.putAll(loaded);
+                if (invalidations.get() != before) {
+                    cache.invalidateAll(loaded.keySet());
+                }
+            }
+        }
+
+        List<Employee> employees = new ArrayList<>(found.size());
+        for (Long id : requested) {
+            Employee employee = found.get(id);
+            if (employee != null) {
+                employees.add(employee.copy());
+            }
+        }
+        return employees;
+    }
+
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(ids);
+    }
+}
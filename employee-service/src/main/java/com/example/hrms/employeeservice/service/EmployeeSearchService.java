@@ -0,0 +1,369 @@
+package com.example.hrms.employeeservice.service;
+
+import com.example.hrms.employeeservice.dto.EmployeePatch;
+import com.example.hrms.employeeservice.dto.EmployeeSearchResult;
+import com.example.hrms.employeeservice.entity.Employee;
+import com.example.hrms.employeeservice.repository.EmployeeRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over employee names with department/designation facets and
+ * salary filters. Name terms live in a sorted map so a prefix is one sub-map view; fuzzy
+ * matching scans only terms whose length is within the edit budget. Built from the
+ * repository on startup and kept current by the controller on every write.
+ */
+@Service
+public class EmployeeSearchService {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchService.class);
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final String UNASSIGNED = "Unassigned";
+
+    private static final int EXACT_SCORE = 3;
+    private static final int PREFIX_SCORE = 2;
+    private static final int FUZZY_SCORE = 1;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Employee> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> nameTerms = new TreeMap<>();
+    private final Map<String, Set<Long>> byDepartment = new HashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            nameTerms.clear();
+            byDepartment.clear();
+            long after = 0L;
+            List<Employee> page;
+            do {
+                page = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (Employee employee : page) {
+                    add(employee.copy());
+                    after = employee.getId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            log.info("Employee search index built with {} employees and {} name terms", documents.size(), nameTerms.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onSaved(Employee employee) {
+        Employee copy = employee.copy();
+        lock.writeLock().lock();
+        try {
+            remove(employee.getId());
+            add(copy);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** A copy of the indexed employee, or null; the index reflects every committed write. */
+    public Employee get(Long id) {
+        lock.readLock().lock();
+        try {
+            Employee employee = documents.get(id);
+            return employee == null ? null : employee.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a committed single-statement PATCH to the indexed copy, mirroring the UPDATE's
+     * coalesce semantics, and returns the new copy; null if the employee was not indexed.
+     */
+    public Employee onPatched(Long id, EmployeePatch patch) {
+        lock.writeLock().lock();
+        try {
+            Employee current = documents.get(id);
+            if (current == null) {
+                return null;
+            }
+            Employee patched = current.copy();
+            if (patch.getName() != null) {
+                patched.setName(patch.getName());
+            }
+            if (patch.getDesignation() != null) {
+                patched.setDesignation(patch.getDesignation());
+            }
+            if (patch.getDepartment() != null) {
+                patched.setDepartment(patch.getDepartment());
+            }
+            if (patch.getSalary() != null) {
+                patched.setSalary(patch.getSalary());
+            }
+            patched.setVersion(current.getVersion() + 1);
+            remove(id);
+            add(patched);
+            return patched.copy();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Mirrors a committed department-wide salary change; salary does not affect any posting list. */
+    public void onSalaryScaled(Collection<Long> ids, double factor) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Employee current = documents.get(id);
+                if (current != null && current.getSalary() != null) {
+                    // Replaced rather than mutated: search results hand out the indexed instances
+                    Employee scaled = current.copy();
+                    scaled.setSalary(current.getSalary() * factor);
+                    scaled.setVersion(current.getVersion() + 1);
+                    documents.put(id, scaled);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onDeleted(Long id) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public EmployeeSearchResult search(String query, boolean fuzzy, String department, String designation,
+                                       Double minSalary, Double maxSalary, int size) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            Collection<Long> candidates;
+            List<String> queryTokens = tokenize(query);
+            if (!queryTokens.isEmpty()) {
+                scores = scoreNameMatches(queryTokens, fuzzy);
+                candidates = scores.keySet();
+            } else if (department != null && !department.isBlank()) {
+                candidates = byDepartment.getOrDefault(departmentKey(department), Set.of());
+            } else {
+                candidates = documents.keySet();
+            }
+
+            Map<String, Long> departmentFacet = new TreeMap<>();
+            Map<String, Long> designationFacet = new TreeMap<>();
+            List<Employee> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Employee employee = documents.get(id);
+                if (!matchesFilters(employee, department, designation, minSalary, maxSalary)) {
+                    continue;
+                }
+                matches.add(employee);
+                departmentFacet.merge(departmentKey(employee.getDepartment()), 1L, Long::sum);
+                designationFacet.merge(designationKey(employee.getDesignation()), 1L, Long::sum);
+            }
+
+            Comparator<Employee> order = Comparator.comparing(Employee::getId);
+            if (scores != null) {
+                Map<Long, Integer> finalScores = scores;
+                order = Comparator.<Employee>comparingInt(e -> finalScores.get(e.getId())).reversed()
+                        .thenComparing(e -> e.getName() == null ? "" : e.getName())
+                        .thenComparing(Employee::getId);
+            }
+            List<Employee> hits = matches.size() <= size
+                    ? matches.stream().sorted(order).toList()
+                    : topN(matches, order, size);
+            return new EmployeeSearchResult(matches.size(), hits, departmentFacet, designationFacet);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Ids of every employee in the department, ascending; used by exports that filter by department. */
+    public List<Long> idsInDepartment(String department) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(byDepartment.getOrDefault(departmentKey(department), Set.of()));
+            ids.sort(null);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every query token must match some name term (AND); each document keeps its best score per token
+    private Map<Long, Integer> scoreNameMatches(List<String> queryTokens, boolean fuzzy) {
+        Map<Long, Integer> total = null;
+        for (String token : queryTokens) {
+            Map<Long, Integer> tokenScores = new HashMap<>();
+            for (Map.Entry<String, Set<Long>> entry : nameTerms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                int score = entry.getKey().equals(token) ? EXACT_SCORE : PREFIX_SCORE;
+                for (Long id : entry.getValue()) {
+                    tokenScores.merge(id, score, Math::max);
+                }
+            }
+            if (fuzzy) {
+                int maxEdits = token.length() <= 4 ? 1 : 2;
+                for (Map.Entry<String, Set<Long>> entry : nameTerms.entrySet()) {
+                    String term = entry.getKey();
+                    if (Math.abs(term.length() - token.length()) > maxEdits || term.startsWith(token)) {
+                        continue;
+                    }
+                    if (withinEditDistance(token, term, maxEdits)) {
+                        for (Long id : entry.getValue()) {
+                            tokenScores.merge(id, FUZZY_SCORE, Math::max);
+                        }
+                    }
+                }
+            }
+
+            if (total == null) {
+                total = tokenScores;
+            } else {
+                Map<Long, Integer> intersection = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : total.entrySet()) {
+                    Integer score = tokenScores.get(entry.getKey());
+                    if (score != null) {
+                        intersection.put(entry.getKey(), entry.getValue() + score);
+                    }
+                }
+                total = intersection;
+            }
+            if (total.isEmpty()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static boolean matchesFilters(Employee employee, String department, String designation,
+                                          Double minSalary, Double maxSalary) {
+        if (department != null && !department.isBlank()
+                && !departmentKey(department).equals(departmentKey(employee.getDepartment()))) {
+            return false;
+        }
+        if (designation != null && !designation.isBlank()
+                && !designationKey(designation).equalsIgnoreCase(designationKey(employee.getDesignation()))) {
+            return false;
+        }
+        Double salary = employee.getSalary();
+        if (minSalary != null && (salary == null || salary < minSalary)) {
+            return false;
+        }
+        return maxSalary == null || (salary != null && salary <= maxSalary);
+    }
+
+    private static List<Employee> topN(List<Employee> matches, Comparator<Employee> order, int size) {
+        // Bounded heap keeps the best `size` hits without sorting every match
+        PriorityQueue<Employee> heap = new PriorityQueue<>(size + 1, order.reversed());
+        for (Employee employee : matches) {
+            heap.offer(employee);
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        }
+        List<Employee> hits = new ArrayList<>(heap);
+        hits.sort(order);
+        return hits;
+    }
+
+    private void add(Employee employee) {
+        documents.put(employee.getId(), employee);
+        for (String term : new HashSet<>(tokenize(employee.getName()))) {
+            nameTerms.computeIfAbsent(term, t -> new HashSet<>()).add(employee.getId());
+        }
+        byDepartment.computeIfAbsent(departmentKey(employee.getDepartment()), d -> new HashSet<>()).add(employee.getId());
+    }
+
+    private void remove(Long id) {
+        Employee previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : tokenize(previous.getName())) {
+            Set<Long> postings = nameTerms.get(term);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                nameTerms.remove(term);
+            }
+        }
+        String department = departmentKey(previous.getDepartment());
+        Set<Long> members = byDepartment.get(department);
+        if (members != null && members.remove(id) && members.isEmpty()) {
+            byDepartment.remove(department);
+        }
+    }
+
+    // Banded Levenshtein that gives up as soon as every cell in a row exceeds the budget
+    static boolean withinEditDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // Index entries are detached copies so later changes to a managed entity never leak in unlocked
+    private static String departmentKey(String department) {
+        return department == null || department.isBlank() ? UNASSIGNED : department;
+    }
+
+    private static String designationKey(String designation) {
+        return designation == null || designation.isBlank() ? UNASSIGNED : designation;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hrms.employeeservice.service;
+
+import com.example.hrms.employeeservice.dto.EmployeeSummary;
+import com.example.hrms.employeeservice.entity.Employee;
+import com.example.hrms.employeeservice.repository.DepartmentHeadcount;
+import com.example.hrms.employeeservice.repository.EmployeeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Keeps dashboard headcounts in memory. Seeded with one GROUP BY on startup and
+ * then adjusted by the controller on every write, so reads never touch the database.
+ */
+@Service
+public class EmployeeSummaryService {
+    private static final String UNASSIGNED = "Unassigned";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    // Distinguishes versions across restarts so a stale If-None-Match never matches
+    private final String bootId = Long.toHexString(System.currentTimeMillis());
+    private final Map<String, Long> headcountByDepartment = new HashMap<>();
+    private long version;
+    private volatile EmployeeSummary snapshot;
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        headcountByDepartment.clear();
+        for (DepartmentHeadcount row : employeeRepository.countByDepartment()) {
+            headcountByDepartment.merge(departmentKey(row.getDepartment()), row.getHeadcount(), Long::sum);
+        }
+        publish();
+    }
+
+    public EmployeeSummary getSummary() {
+        return snapshot;
+    }
+
+    public synchronized void onCreated(Employee employee) {
+        adjust(employee.getDepartment(), 1);
+        publish();
+    }
+
+    public synchronized void onUpdated(String previousDepartment, Employee employee) {
+        if (!Objects.equals(departmentKey(previousDepartment), departmentKey(employee.getDepartment()))) {
+            adjust(previousDepartment, -1);
+            adjust(employee.getDepartment(), 1);
+            publish();
+        }
+    }
+
+    public synchronized void onDeleted(Employee employee) {
+        adjust(employee.getDepartment(), -1);
+        publish();
+    }
+
+    private void adjust(String department, long delta) {
+        headcountByDepartment.merge(departmentKey(department), delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private void publish() {
+        long headcount = headcountByDepartment.values().stream().mapToLong(Long::longValue).sum();
+        version++;
+        snapshot = new EmployeeSummary(
+                headcount,
+                Collections.unmodifiableMap(new TreeMap<>(headcountByDepartment)),
+                "\"" + bootId + "-" + version + "\"");
+    }
+
+    private static String departmentKey(String department) {
+        return department == null || department.isBlank() ? UNASSIGNED : department;
+    }
+}
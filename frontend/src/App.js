@@ -5,11 +5,13 @@ import Dashboard from './pages/Dashboard';
 import Employees from './pages/Employees';
 import Attendance from './pages/Attendance';
 import Payroll from './pages/Payroll';
+import Login from './pages/Login';
 
 const App = () => {
     return (
         <Router>
             <Routes>
+                <Route path="/login" element={<Login />} />
                 <Route path="/" element={<Layout />}>
                     <Route index element={<Dashboard />} />
                     <Route path="employees" element={<Employees />} />
@@ -1,5 +1,6 @@
 import React, { useEffect, useState } from 'react';
 import api from '../utils/axiosConfig';
+import { subscribeToFeed } from '../utils/liveFeed';
 import {
     Typography,
     CircularProgress,
@@ -55,6 +56,23 @@ const Attendance = () => {
         fetchAttendance();
     }, [selectedDate]);
 
+    useEffect(() => {
+        // Apply pushed check-ins and check-outs for the visible day instead of refetching the list
+        return subscribeToFeed('/attendance/feed', {
+            onEvent: (type, record) => {
+                if (record.date !== selectedDate) {
+                    return;
+                }
+                setAttendance((current) => {
+                    // One row per employee and day; bulk-ingested events carry no id
+                    const others = current.filter((row) => row.employeeId !== record.employeeId);
+                    return type === 'deleted' ? others : [...others, record];
+                });
+            },
+            onResync: fetchAttendance,
+        });
+    }, [selectedDate]);
+
     useEffect(() => {
         // Initialize employee attendance state
         const attendanceMap = {};
@@ -75,7 +93,7 @@ const Attendance = () => {
     }, [employees, attendance, selectedDate]);
 
     const fetchAttendance = () => {
-        api.get('/attendance')
+        api.get(`/attendance/date/${selectedDate}`)
             .then((response) => {
                 setAttendance(response.data || []);
             })
@@ -86,7 +104,7 @@ const Attendance = () => {
 
     const fetchEmployees = () => {
         setLoading(true);
-        api.get('/employees')
+        api.get('/employees', { params: { unpaged: true } })
             .then((response) => {
                 setEmployees(response.data || []);
                 setLoading(false);
@@ -1,5 +1,6 @@
 import React, { useEffect, useState } from 'react';
 import api from '../utils/axiosConfig';
+import { subscribeToFeed } from '../utils/liveFeed';
 import {
     Typography,
     CircularProgress,
@@ -22,28 +23,49 @@ const Dashboard = () => {
 
     useEffect(() => {
         fetchDashboardData();
-        // Refresh data every 30 seconds
-        const interval = setInterval(fetchDashboardData, 30000);
-        return () => clearInterval(interval);
+        // Attendance changes are pushed; coalesce bursts into one summary refresh per second
+        let pending = null;
+        const refreshSoon = () => {
+            if (!pending) {
+                pending = setTimeout(() => {
+                    pending = null;
+                    fetchDashboardData();
+                }, 1000);
+            }
+        };
+        const unsubscribe = subscribeToFeed('/attendance/feed', { onEvent: refreshSoon, onResync: refreshSoon });
+        // Employee and payroll totals change rarely; a slow refresh keeps them current
+        const interval = setInterval(fetchDashboardData, 300000);
+        return () => {
+            unsubscribe();
+            clearInterval(interval);
+            clearTimeout(pending);
+        };
     }, []);
 
     const fetchDashboardData = () => {
-        // Fetch dashboard data from multiple endpoints
+        // Summaries are precomputed by each service; unchanged polls come back as 304s
         Promise.all([
-            api.get('/employees').catch(() => ({ data: [] })),
-            api.get('/attendance').catch(() => ({ data: [] })),
-            api.get('/payroll').catch(() => ({ data: [] }))
+            api.get('/employees/summary').catch(() => ({ data: {} })),
+            api.get('/attendance/summary').catch(() => ({ data: {} })),
+            api.get('/payroll/summary').catch(() => ({ data: {} }))
         ])
             .then(([employeesRes, attendanceRes, payrollRes]) => {
-                const employees = employeesRes.data || [];
-                const attendance = attendanceRes.data || [];
-                const payroll = payrollRes.data || [];
+                const employees = employeesRes.data || {};
+                const attendance = attendanceRes.data || {};
+                const payroll = payrollRes.data || {};
+                const headcount = employees.headcount || 0;
+                const presentToday = attendance.presentToday || 0;
                 
                 setData({
-                    totalEmployees: employees.length,
-                    totalAttendance: attendance.length,
-                    totalPayroll: payroll.length,
-                    totalSalary: payroll.reduce((sum, p) => sum + (parseFloat(p.netSalary) || 0), 0)
+                    totalEmployees: headcount,
+                    headcountByDepartment: employees.headcountByDepartment || {},
+                    totalAttendance: attendance.totalRecords || 0,
+                    presentToday: presentToday,
+                    absentToday: Math.max(headcount - presentToday, 0),
+                    totalPayroll: payroll.records || 0,
+                    totalSalary: payroll.totalNetSalary || 0,
+                    averageSalary: payroll.averageNetSalary || 0
                 });
                 setLoading(false);
             })
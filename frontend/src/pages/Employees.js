@@ -39,7 +39,7 @@ const Employees = () => {
 
     const fetchEmployees = () => {
         setLoading(true);
-        api.get('/employees')
+        api.get('/employees', { params: { unpaged: true } })
             .then((response) => {
                 console.log('Fetched employees:', response.data); // Debugging log
                 if (response.data && Array.isArray(response.data)) {
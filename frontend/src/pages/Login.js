@@ -1,7 +1,25 @@
-import React from 'react';
-import { TextField, Button, Typography, Box } from '@mui/material';
+import React, { useState } from 'react';
+import { useNavigate } from 'react-router-dom';
+import { TextField, Button, Typography, Box, Alert } from '@mui/material';
+import api from '../utils/axiosConfig';
 
 const Login = () => {
+  const navigate = useNavigate();
+  const [email, setEmail] = useState('');
+  const [password, setPassword] = useState('');
+  const [error, setError] = useState(null);
+
+  const handleLogin = async () => {
+    try {
+      setError(null);
+      const response = await api.post('/auth/login', { email, password });
+      localStorage.setItem('authToken', response.data.token);
+      navigate('/');
+    } catch (err) {
+      setError(err.response?.status === 401 ? 'Invalid email or password' : 'Login failed. Please try again.');
+    }
+  };
+
   return (
     <Box
       sx={{
@@ -15,13 +33,27 @@ const Login = () => {
       <Typography variant="h4" gutterBottom>
         Login
       </Typography>
-      <TextField label="Username" variant="outlined" sx={{ mb: 2, width: '300px' }} />
-      <TextField label="Password" type="password" variant="outlined" sx={{ mb: 2, width: '300px' }} />
-      <Button variant="contained" color="primary">
+      {error && <Alert severity="error" sx={{ mb: 2, width: '300px' }}>{error}</Alert>}
+      <TextField
+        label="Email"
+        variant="outlined"
+        value={email}
+        onChange={(e) => setEmail(e.target.value)}
+        sx={{ mb: 2, width: '300px' }}
+      />
+      <TextField
+        label="Password"
+        type="password"
+        variant="outlined"
+        value={password}
+        onChange={(e) => setPassword(e.target.value)}
+        sx={{ mb: 2, width: '300px' }}
+      />
+      <Button variant="contained" color="primary" onClick={handleLogin}>
         Login
       </Button>
     </Box>
   );
 };
 
-export default Login;
\ No newline at end of file
+export default Login;
@@ -60,7 +60,7 @@ const Payroll = () => {
     }, [employees, payroll]);
 
     const fetchPayroll = () => {
-        api.get('/payroll')
+        api.get('/payroll', { params: { unpaged: true } })
             .then((response) => {
                 setPayroll(response.data || []);
             })
@@ -71,7 +71,7 @@ const Payroll = () => {
 
     const fetchEmployees = () => {
         setLoading(true);
-        api.get('/employees')
+        api.get('/employees', { params: { unpaged: true } })
             .then((response) => {
                 setEmployees(response.data || []);
                 setLoading(false);
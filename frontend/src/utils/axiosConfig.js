@@ -11,6 +11,10 @@ const api = axios.create({
 // Add request interceptor
 api.interceptors.request.use(
     (config) => {
+        const token = localStorage.getItem('authToken');
+        if (token) {
+            config.headers.Authorization = `Bearer ${token}`;
+        }
         console.log('Making request to:', config.url);
         return config;
     },
@@ -28,6 +32,10 @@ api.interceptors.response.use(
     },
     (error) => {
         console.error('Response error:', error.response?.status, error.message);
+        if (error.response?.status === 401) {
+            // Token expired or was rejected by the gateway; drop it so the next login starts clean
+            localStorage.removeItem('authToken');
+        }
         if (error.response) {
             // Server responded with error status
             console.error('Error data:', error.response.data);
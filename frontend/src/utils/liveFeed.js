@@ -0,0 +1,27 @@
+// Subscribes to a Server-Sent Events feed behind the gateway. The browser reconnects on its
+// own and sends Last-Event-ID, so missed events are replayed; onResync fires when the server
+// could not replay them and the caller should refetch.
+const FEED_EVENTS = ['created', 'updated', 'deleted', 'checked-in', 'checked-out'];
+
+export const subscribeToFeed = (path, { onEvent, onResync }) => {
+    const baseURL = process.env.REACT_APP_API_BASE_URL || '/api';
+    const token = localStorage.getItem('authToken');
+    const url = `${baseURL}${path}${token ? `?access_token=${encodeURIComponent(token)}` : ''}`;
+    const source = new EventSource(url);
+
+    FEED_EVENTS.forEach((type) => {
+        source.addEventListener(type, (event) => {
+            onEvent(type, JSON.parse(event.data));
+        });
+    });
+    source.addEventListener('resync', () => {
+        if (onResync) {
+            onResync();
+        }
+    });
+    source.onerror = () => {
+        console.warn('Live feed interrupted; the browser will reconnect:', path);
+    };
+
+    return () => source.close();
+};
@@ -0,0 +1,99 @@
+package com.example.hrms.benchmarks.jmh;
+
+import com.example.hrms.apigateway.CorsConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the gateway's CORS filter, which runs first on every request. Each case
+ * builds a fresh exchange, as the server does; {@link #exchangeOnly} measures that alone so it
+ * can be subtracted from the others.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CorsFilterBenchmark {
+    private static final String PATH = "http://localhost:8080/employees";
+
+    private final WebFilterChain chain = exchange -> Mono.empty();
+
+    private WebFilter filter;
+
+    @Setup
+    public void setUp() {
+        // Same values as api-gateway's application.properties, plus one wildcard pattern
+        CorsConfig config = new CorsConfig();
+        ReflectionTestUtils.setField(config, "allowedOrigins", List.of("http://localhost:3000", "http://localhost:3001"));
+        ReflectionTestUtils.setField(config, "allowedOriginPatterns", List.of("https://*.hrms.example.com"));
+        ReflectionTestUtils.setField(config, "allowedMethods", "GET, POST, PUT, DELETE, OPTIONS, PATCH, HEAD");
+        ReflectionTestUtils.setField(config, "allowedHeaders", "*");
+        ReflectionTestUtils.setField(config, "exposedHeaders", "*");
+        ReflectionTestUtils.setField(config, "maxAge", 3600L);
+        filter = config.corsFilter(config.corsPolicy());
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000"));
+    }
+
+    // Server-to-server calls and same-origin requests carry no Origin header
+    @Benchmark
+    public ServerWebExchange noOrigin() {
+        return run(MockServerWebExchange.from(MockServerHttpRequest.get(PATH)));
+    }
+
+    @Benchmark
+    public ServerWebExchange exactOrigin() {
+        return run(MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000")));
+    }
+
+    @Benchmark
+    public ServerWebExchange patternOrigin() {
+        return run(MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ORIGIN, "https://portal.hrms.example.com")));
+    }
+
+    @Benchmark
+    public ServerWebExchange disallowedOrigin() {
+        return run(MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ORIGIN, "https://evil.example.org")));
+    }
+
+    @Benchmark
+    public ServerWebExchange preflight() {
+        return run(MockServerWebExchange.from(MockServerHttpRequest.options(PATH)
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PUT")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "content-type")));
+    }
+
+    private ServerWebExchange run(ServerWebExchange exchange) {
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+}
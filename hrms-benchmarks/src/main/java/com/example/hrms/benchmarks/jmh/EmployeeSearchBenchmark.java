@@ -0,0 +1,183 @@
+package com.example.hrms.benchmarks.jmh;
+
+import com.example.hrms.employeeservice.dto.EmployeeSearchResult;
+import com.example.hrms.employeeservice.entity.Employee;
+import com.example.hrms.employeeservice.service.EmployeeSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /employees/search} against the SQL it replaces, on the same 100k employees. The
+ * index side calls {@link EmployeeSearchService} directly; the SQL side runs the matching
+ * {@code LIKE} query plus the two facet {@code GROUP BY}s on an in-memory H2 database in MySQL
+ * mode with indexes on name and department, so it measures query execution without a network
+ * hop. {@code LIKE '%q%'} also matches inside words, so its totals can be larger than the index's
+ * prefix matches. {@code -Dbench.search.jdbc-url=...} (with user/password properties and the
+ * driver on the classpath) runs the SQL side against a real MySQL instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeSearchBenchmark {
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael",
+            "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen", "Priya", "Rahul", "Ananya", "Arjun", "Wei", "Mei", "Hiroshi", "Yuki",
+            "Fatima", "Omar", "Carlos", "Sofia", "Lukas", "Emma", "Noah", "Olivia", "Mateo", "Chloe", "Ivan", "Anya"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Sharma", "Patel", "Singh", "Kumar", "Chen", "Wang", "Tanaka",
+            "Suzuki", "Khan", "Hassan", "Silva", "Santos", "Muller", "Schmidt", "Dubois", "Rossi", "Ivanov", "Novak",
+            "Kowalski", "Andersson"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Finance", "Operations", "Sales", "Human Resources",
+            "Marketing", "Legal", "Support"};
+    private static final String[] DESIGNATIONS = {"Engineer", "Senior Engineer", "Analyst", "Manager", "Director",
+            "Associate", "Specialist", "Lead"};
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    private int employees;
+
+    /** A full surname, a short prefix and a misspelling (only the fuzzy index query matches the last). */
+    @Param({"Sharma", "mar", "Andersen"})
+    private String query;
+
+    private EmployeeSearchService index;
+    private Connection connection;
+    private PreparedStatement hits;
+    private PreparedStatement total;
+    private PreparedStatement departmentFacet;
+    private PreparedStatement designationFacet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        index = new EmployeeSearchService();
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.search.jdbc-url", "jdbc:h2:mem:searchbench;MODE=MySQL;DATABASE_TO_LOWER=TRUE"),
+                System.getProperty("bench.search.username", "sa"),
+                System.getProperty("bench.search.password", ""));
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table if exists employees");
+            // Same columns Hibernate creates for Employee, plus the indexes a LIKE search would be given
+            ddl.execute("create table employees (id bigint primary key, name varchar(255), designation varchar(255),"
+                    + " department varchar(255), salary double, version bigint default 0 not null)");
+            ddl.execute("create index idx_employees_name on employees (name)");
+            ddl.execute("create index idx_employees_department on employees (department)");
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into employees (id, name, designation, department, salary, version) values (?, ?, ?, ?, ?, 0)")) {
+            for (int i = 1; i <= employees; i++) {
+                Employee employee = new Employee();
+                employee.setId((long) i);
+                employee.setName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                        + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+                employee.setDesignation(DESIGNATIONS[random.nextInt(DESIGNATIONS.length)]);
+                employee.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                employee.setSalary(30_000 + random.nextInt(120_000) + 0.5);
+                index.onSaved(employee);
+
+                insert.setLong(1, employee.getId());
+                insert.setString(2, employee.getName());
+                insert.setString(3, employee.getDesignation());
+                insert.setString(4, employee.getDepartment());
+                insert.setDouble(5, employee.getSalary());
+                insert.addBatch();
+                if (i % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        // What a search endpoint built on the repository would run: case-insensitive substring match
+        String where = " from employees where lower(name) like ?";
+        hits = connection.prepareStatement("select id, name, designation, department, salary, version"
+                + where + " order by name, id limit " + PAGE_SIZE);
+        total = connection.prepareStatement("select count(*)" + where);
+        departmentFacet = connection.prepareStatement("select department, count(*)" + where + " group by department");
+        designationFacet = connection.prepareStatement("select designation, count(*)" + where + " group by designation");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public EmployeeSearchResult indexSearch() {
+        return index.search(query, false, null, null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public EmployeeSearchResult indexFuzzySearch() {
+        return index.search(query, true, null, null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public EmployeeSearchResult likeSearch() throws SQLException {
+        String pattern = "%" + query.toLowerCase() + "%";
+        List<Employee> page = new ArrayList<>(PAGE_SIZE);
+        hits.setString(1, pattern);
+        try (ResultSet rows = hits.executeQuery()) {
+            while (rows.next()) {
+                Employee employee = new Employee();
+                employee.setId(rows.getLong(1));
+                employee.setName(rows.getString(2));
+                employee.setDesignation(rows.getString(3));
+                employee.setDepartment(rows.getString(4));
+                employee.setSalary(rows.getDouble(5));
+                employee.setVersion(rows.getLong(6));
+                page.add(employee);
+            }
+        }
+        total.setString(1, pattern);
+        long count;
+        try (ResultSet rows = total.executeQuery()) {
+            rows.next();
+            count = rows.getLong(1);
+        }
+        return new EmployeeSearchResult(count, page, facet(departmentFacet, pattern), facet(designationFacet, pattern));
+    }
+
+    private static Map<String, Long> facet(PreparedStatement statement, String pattern) throws SQLException {
+        Map<String, Long> counts = new HashMap<>();
+        statement.setString(1, pattern);
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                counts.put(rows.getString(1), rows.getLong(2));
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.hrms.benchmarks.jmh;
+
+import com.example.hrms.attendanceservice.entity.Attendance;
+import com.example.hrms.employeeservice.entity.Employee;
+import com.example.hrms.payrollservice.entity.Payroll;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the list pages the controllers return ({@code GET /employees},
+ * {@code /attendance/employee/{id}}, {@code /payroll}), with the mapper configured the way
+ * Spring Boot configures the services' one. Sizes match the default and maximum page size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListSerializationBenchmark {
+    private static final String[] DEPARTMENTS = {"Engineering", "Finance", "Operations", "Sales", "Human Resources"};
+    private static final String[] DESIGNATIONS = {"Engineer", "Senior Engineer", "Analyst", "Manager", "Director"};
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private ObjectWriter employeeWriter;
+    private ObjectWriter attendanceWriter;
+    private ObjectWriter payrollWriter;
+
+    private List<Employee> employees;
+    private List<Attendance> attendances;
+    private List<Payroll> payrolls;
+
+    @Setup
+    public void setUp() {
+        // Boot's JacksonAutoConfiguration: Jackson2ObjectMapperBuilder defaults, ISO dates
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+        // MappingJackson2HttpMessageConverter writes with a writer for the declared return type
+        employeeWriter = mapper.writerFor(new TypeReference<List<Employee>>() {});
+        attendanceWriter = mapper.writerFor(new TypeReference<List<Attendance>>() {});
+        payrollWriter = mapper.writerFor(new TypeReference<List<Payroll>>() {});
+
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        employees = new ArrayList<>(size);
+        attendances = new ArrayList<>(size);
+        payrolls = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Employee employee = new Employee();
+            employee.setId((long) i);
+            employee.setName("Employee " + i);
+            employee.setDesignation(DESIGNATIONS[random.nextInt(DESIGNATIONS.length)]);
+            employee.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+            employee.setSalary(30_000 + random.nextInt(120_000) + 0.5);
+            employee.setVersion(random.nextInt(5));
+            employees.add(employee);
+
+            Attendance attendance = new Attendance();
+            attendance.setId((long) i);
+            attendance.setEmployeeId((long) (1 + random.nextInt(size)));
+            attendance.setDate(today.minusDays(random.nextInt(30)));
+            attendance.setCheckInTime(LocalTime.of(8, random.nextInt(60), random.nextInt(60)));
+            attendance.setCheckOutTime(LocalTime.of(17, random.nextInt(60), random.nextInt(60)));
+            attendances.add(attendance);
+
+            Payroll payroll = new Payroll();
+            payroll.setId((long) i);
+            payroll.setEmployeeId((long) i);
+            payroll.setBasicPay(employee.getSalary() / 12);
+            payroll.setBonus(payroll.getBasicPay() * 0.1);
+            payroll.setDeductions(random.nextInt(500) + 0.25);
+            payroll.setNetSalary(payroll.getBasicPay() + payroll.getBonus() - payroll.getDeductions());
+            payroll.setRunId(1L);
+            payroll.setPeriodStart(today.withDayOfMonth(1));
+            payroll.setPeriodEnd(today.withDayOfMonth(today.lengthOfMonth()));
+            payrolls.add(payroll);
+        }
+    }
+
+    @Benchmark
+    public byte[] employees() throws Exception {
+        return employeeWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] attendances() throws Exception {
+        return attendanceWriter.writeValueAsBytes(attendances);
+    }
+
+    @Benchmark
+    public byte[] payrolls() throws Exception {
+        return payrollWriter.writeValueAsBytes(payrolls);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.hrms.benchmarks.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client for everything the suite sends through api-gateway. Each simulated user passes its
+ * own number, which becomes its {@code X-Forwarded-For} address: the gateway keys its per-client
+ * rate limit on that header when the suite's host is one of its trusted proxies, so a run looks
+ * like many browsers rather than one very busy one.
+ */
+public class GatewayClient {
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    public GatewayClient(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public HttpRequest.Builder get(String path, int user) {
+        return request(path, user).GET();
+    }
+
+    public HttpRequest.Builder post(String path, int user, String contentType, String body) {
+        return request(path, user)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    /**
+     * Sends the request and records its latency; 4xx/5xx and I/O failures count as errors
+     * (304 does not). Returns null when no response arrived.
+     */
+    public HttpResponse<String> send(HttpRequest.Builder request, LatencyRecorder recorder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            recorder.record(start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String path, int user) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("X-Forwarded-For", "10." + (user >> 16 & 0xff) + "." + (user >> 8 & 0xff) + "." + (user & 0xff));
+    }
+}
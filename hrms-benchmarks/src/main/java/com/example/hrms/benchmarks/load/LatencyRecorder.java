@@ -0,0 +1,95 @@
+package com.example.hrms.benchmarks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one request type within one workload, recorded from many threads. Throughput is
+ * the number of completed requests over the wall-clock time between {@link #start} and {@link #stop};
+ * requests that carry several rows also count the rows they wrote, for rows/s.
+ */
+public class LatencyRecorder {
+    private final String name;
+    // Microseconds, three significant digits; resizes itself for outliers
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void start() {
+        startedAt = System.nanoTime();
+    }
+
+    public void stop() {
+        stoppedAt = System.nanoTime();
+    }
+
+    /** Records a request that started at {@code startNanos} ({@link System#nanoTime()}) and just finished. */
+    public void record(long startNanos, boolean ok) {
+        histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos)));
+        if (!ok) {
+            errors.increment();
+        }
+    }
+
+    /** Adds rows written by a request; only ingestion workloads use this. */
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getStoppedAt() {
+        return stoppedAt == 0 ? System.nanoTime() : stoppedAt;
+    }
+
+    public double getElapsedSeconds() {
+        return (getStoppedAt() - startedAt) / 1e9;
+    }
+
+    public double getRequestsPerSecond() {
+        double elapsed = getElapsedSeconds();
+        return elapsed <= 0 ? 0 : getCount() / elapsed;
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public double getRowsPerSecond() {
+        double elapsed = getElapsedSeconds();
+        return elapsed <= 0 ? 0 : getRows() / elapsed;
+    }
+
+    /** Latency at {@code percentile} (0-100) in milliseconds. */
+    public double getPercentileMillis(double percentile) {
+        Histogram snapshot = histogram.copy();
+        return snapshot.getTotalCount() == 0 ? 0 : snapshot.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hrms.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * End-to-end load run through api-gateway. Without {@code bench.gateway-url} it starts its own
+ * cluster ({@link ServiceCluster}) from the built jars; with it, it drives an existing deployment
+ * such as the Docker Compose stack. Either way it seeds data, replays the workloads named in
+ * {@code bench.workloads}, prints p50/p90/p99 latency and requests/sec, appends them to
+ * {@code bench.report} and exits non-zero when a {@code bench.max-*}/{@code bench.min-*} threshold is missed.
+ *
+ * <p>Settings are system properties, e.g.
+ * {@code java -Dbench.employees=10000 -cp hrms-benchmarks/target/benchmarks.jar com.example.hrms.benchmarks.load.LoadSuite}
+ */
+public class LoadSuite {
+
+    public static void main(String[] args) throws Exception {
+        String gatewayUrl = System.getProperty("bench.gateway-url", "");
+        Path projectDir = Path.of(System.getProperty("bench.project-dir", "."));
+        int employees = Integer.getInteger("bench.employees", 5000);
+        int historyDays = Integer.getInteger("bench.history-days", 60);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("bench.warmup-seconds", 15));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("bench.duration-seconds", 60));
+        List<String> workloads = List.of(System.getProperty("bench.workloads",
+                "dashboard-polling,employee-lookups,check-in-burst,attendance-ingest").split("\\s*,\\s*"));
+        String label = System.getProperty("bench.label", "default");
+        Path reportFile = Path.of(System.getProperty("bench.report", "hrms-benchmarks/target/load-report.csv"));
+
+        ServiceCluster cluster = null;
+        try {
+            if (gatewayUrl.isBlank()) {
+                cluster = new ServiceCluster(projectDir,
+                        Path.of(System.getProperty("bench.h2-jar", "hrms-benchmarks/target/lib/h2.jar")),
+                        Path.of(System.getProperty("bench.log-dir", "hrms-benchmarks/target/load")),
+                        Integer.getInteger("bench.port-offset", 10000),
+                        System.getProperty("bench.jvm-options", "-Xmx512m"),
+                        System.getProperty("bench.service-profiles", ""),
+                        Boolean.getBoolean("bench.second-level-cache"),
+                        Boolean.getBoolean("bench.gateway-rate-limit"));
+                ServiceCluster started = cluster;
+                Runtime.getRuntime().addShutdownHook(new Thread(started::close));
+                cluster.start(Duration.ofSeconds(Integer.getInteger("bench.startup-timeout-seconds", 180)));
+                gatewayUrl = cluster.getGatewayUrl();
+            }
+
+            GatewayClient client = new GatewayClient(gatewayUrl, Duration.ofSeconds(30));
+            Seeder seeder = new Seeder(client, Integer.getInteger("bench.seed-concurrency", 32));
+            Report seedReport = new Report(label);
+
+            System.out.printf("Seeding %d employees with %d days of attendance history via %s%n",
+                    employees, historyDays, gatewayUrl);
+            LatencyRecorder employeeInserts = new LatencyRecorder("POST /employees");
+            List<Long> employeeIds = seeder.seedEmployees(employees, employeeInserts);
+            LatencyRecorder bulkInserts = new LatencyRecorder("POST /attendance/bulk");
+            long rows = seeder.seedAttendance(employeeIds, historyDays, bulkInserts);
+            System.out.printf("Ingested %d attendance rows in %.1f s (%.0f rows/s)%n",
+                    rows, bulkInserts.getElapsedSeconds(), rows / Math.max(bulkInserts.getElapsedSeconds(), 0.001));
+            LatencyRecorder payrollRun = new LatencyRecorder("POST /payroll/runs + poll");
+            String runStatus = seeder.runPayroll(Duration.ofMinutes(10), payrollRun);
+            System.out.printf("Payroll run %s after %.1f s%n", runStatus, payrollRun.getElapsedSeconds());
+            seedReport.add("seed", List.of(employeeInserts, bulkInserts, payrollRun));
+            if (employeeIds.isEmpty()) {
+                throw new IllegalStateException("No employees could be created; is the gateway routing to employee-service?");
+            }
+
+            Workloads runner = new Workloads(client, warmup, duration);
+            Report report = new Report(label);
+            for (String workload : workloads) {
+                System.out.printf("Running %s%n", workload);
+                switch (workload) {
+                    case "dashboard-polling" -> report.add(workload, runner.dashboardPolling(
+                            Integer.getInteger("bench.dashboard.users", 200),
+                            Duration.ofMillis(Integer.getInteger("bench.dashboard.interval-ms", 2000))));
+                    case "employee-lookups" -> report.add(workload, runner.employeeLookups(
+                            Integer.getInteger("bench.lookups.users", 50), employeeIds));
+                    case "check-in-burst" -> report.add(workload, runner.checkInBurst(
+                            employeeIds, Integer.getInteger("bench.burst.concurrency", 200)));
+                    case "attendance-ingest" -> report.add(workload, runner.attendanceIngest(
+                            employeeIds, LocalDate.now().minusDays(historyDays),
+                            Integer.getInteger("bench.ingest.rows", 20000),
+                            Integer.getInteger("bench.ingest.batch-size", 1000),
+                            Integer.getInteger("bench.ingest.concurrency", 32)));
+                    default -> throw new IllegalArgumentException("Unknown workload: " + workload);
+                }
+            }
+
+            seedReport.print();
+            report.print();
+            seedReport.appendCsv(reportFile);
+            report.appendCsv(reportFile);
+            System.out.printf("%nResults appended to %s%n", reportFile);
+
+            List<String> breaches = report.check(
+                    Double.parseDouble(System.getProperty("bench.max-p99-ms", "0")),
+                    Double.parseDouble(System.getProperty("bench.min-rps", "0")),
+                    Long.getLong("bench.max-errors", -1L));
+            if (!breaches.isEmpty()) {
+                System.out.println("Thresholds missed:");
+                breaches.forEach(breach -> System.out.println("  " + breach));
+                System.exit(1);
+            }
+        } finally {
+            if (cluster != null) {
+                cluster.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.hrms.benchmarks.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects the recorders of every workload, prints them as a table and appends them to a CSV
+ * file. Runs are told apart by their label, so runs of different builds or profiles can share one file.
+ */
+public class Report {
+    private static final String CSV_HEADER = "label,workload,request,count,errors,rps,p50_ms,p90_ms,p99_ms,max_ms,rows_per_s";
+
+    private final String label;
+    private final Map<String, List<LatencyRecorder>> workloads = new LinkedHashMap<>();
+
+    public Report(String label) {
+        this.label = label;
+    }
+
+    public void add(String workload, List<LatencyRecorder> recorders) {
+        workloads.computeIfAbsent(workload, w -> new ArrayList<>()).addAll(recorders);
+    }
+
+    public void print() {
+        System.out.println();
+        System.out.printf("Results (%s)%n", label);
+        System.out.printf("%-20s %-30s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "workload", "request", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "rows/s");
+        for (Map.Entry<String, List<LatencyRecorder>> workload : workloads.entrySet()) {
+            for (LatencyRecorder r : workload.getValue()) {
+                System.out.printf(Locale.ROOT, "%-20s %-30s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9s%n",
+                        workload.getKey(), r.getName(), r.getCount(), r.getErrors(), r.getRequestsPerSecond(),
+                        r.getPercentileMillis(50), r.getPercentileMillis(90), r.getPercentileMillis(99), r.getMaxMillis(),
+                        r.getRows() == 0 ? "" : String.format(Locale.ROOT, "%.0f", r.getRowsPerSecond()));
+            }
+        }
+    }
+
+    public void appendCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(file)) {
+            lines.add(CSV_HEADER);
+        }
+        for (Map.Entry<String, List<LatencyRecorder>> workload : workloads.entrySet()) {
+            for (LatencyRecorder r : workload.getValue()) {
+                lines.add(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%s",
+                        label, workload.getKey(), r.getName(), r.getCount(), r.getErrors(), r.getRequestsPerSecond(),
+                        r.getPercentileMillis(50), r.getPercentileMillis(90), r.getPercentileMillis(99), r.getMaxMillis(),
+                        r.getRows() == 0 ? "" : String.format(Locale.ROOT, "%.1f", r.getRowsPerSecond())));
+            }
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Checks p99 per request type and throughput per workload (each off when zero or less) and the
+     * errors per request type (off when negative). Returns one message per breach.
+     */
+    public List<String> check(double maxP99Millis, double minRequestsPerSecond, long maxErrors) {
+        List<String> breaches = new ArrayList<>();
+        for (Map.Entry<String, List<LatencyRecorder>> workload : workloads.entrySet()) {
+            long count = 0;
+            long startedAt = Long.MAX_VALUE;
+            long stoppedAt = Long.MIN_VALUE;
+            for (LatencyRecorder r : workload.getValue()) {
+                count += r.getCount();
+                startedAt = Math.min(startedAt, r.getStartedAt());
+                stoppedAt = Math.max(stoppedAt, r.getStoppedAt());
+                double p99 = r.getPercentileMillis(99);
+                if (maxP99Millis > 0 && p99 > maxP99Millis) {
+                    breaches.add(String.format(Locale.ROOT, "%s %s: p99 %.2f ms above %.2f ms",
+                            workload.getKey(), r.getName(), p99, maxP99Millis));
+                }
+                if (maxErrors >= 0 && r.getErrors() > maxErrors) {
+                    breaches.add(String.format("%s %s: %d errors", workload.getKey(), r.getName(), r.getErrors()));
+                }
+            }
+            // Over the workload's whole span, so sequential phases (check-in, then check-out) are not added up
+            double rps = stoppedAt > startedAt ? count / ((stoppedAt - startedAt) / 1e9) : 0;
+            if (minRequestsPerSecond > 0 && rps < minRequestsPerSecond) {
+                breaches.add(String.format(Locale.ROOT, "%s: %.1f req/s below %.1f req/s",
+                        workload.getKey(), rps, minRequestsPerSecond));
+            }
+        }
+        return breaches;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.hrms.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Loads a realistic data set through the gateway before the workloads run: employees across
+ * departments, weekday attendance history for every one of them (via the NDJSON bulk endpoint),
+ * and one completed payroll run for the previous month. Each step is recorded like a workload,
+ * so the seed doubles as the bulk-ingestion benchmark.
+ */
+public class Seeder {
+    private static final String[] DEPARTMENTS = {"Engineering", "Finance", "Operations", "Sales", "Human Resources",
+            "Marketing", "Legal", "Support"};
+    private static final String[] DESIGNATIONS = {"Engineer", "Senior Engineer", "Analyst", "Manager", "Director",
+            "Associate", "Specialist"};
+    private static final String[] FIRST_NAMES = {"Aarav", "Maya", "Liam", "Sofia", "Noah", "Priya", "Ethan", "Zara",
+            "Lucas", "Amara", "Omar", "Hana", "Mateo", "Ines", "Kenji", "Leila"};
+    private static final String[] LAST_NAMES = {"Sharma", "Nguyen", "Okafor", "Garcia", "Kowalski", "Haddad",
+            "Tanaka", "Silva", "Murphy", "Rossi", "Cohen", "Mensah"};
+    private static final int BULK_BATCH = 1000;
+
+    private final GatewayClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random = new Random(7);
+    private final int concurrency;
+
+    public Seeder(GatewayClient client, int concurrency) {
+        this.client = client;
+        this.concurrency = concurrency;
+    }
+
+    /** Creates {@code count} employees and returns their ids. */
+    public List<Long> seedEmployees(int count, LatencyRecorder recorder) throws InterruptedException {
+        List<Long> ids = Collections.synchronizedList(new ArrayList<>(count));
+        List<String> bodies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + (i + 1);
+            bodies.add(String.format("{\"name\":\"%s\",\"designation\":\"%s\",\"department\":\"%s\",\"salary\":%d}",
+                    name, DESIGNATIONS[random.nextInt(DESIGNATIONS.length)],
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], 30_000 + random.nextInt(150_000)));
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        recorder.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int user = i;
+                String body = bodies.get(i);
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        HttpResponse<String> response = client.send(
+                                client.post("/employees", user, "application/json", body), recorder);
+                        Long id = idOf(response);
+                        if (id != null) {
+                            ids.add(id);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        recorder.stop();
+        List<Long> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Posts {@code days} weekdays of history ending yesterday: about 95% attendance, check-ins
+     * spread around 9:00 and a working day of eight to nine and a half hours. Returns the rows accepted.
+     */
+    public long seedAttendance(List<Long> employeeIds, int days, LatencyRecorder recorder) throws InterruptedException {
+        LocalDate today = LocalDate.now();
+        List<String> batches = new ArrayList<>();
+        StringBuilder batch = new StringBuilder();
+        int rows = 0;
+        for (LocalDate date = today.minusDays(days); date.isBefore(today); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            for (Long employeeId : employeeIds) {
+                if (random.nextInt(100) >= 95) {
+                    continue;
+                }
+                LocalTime checkIn = LocalTime.of(8, 15).plusSeconds(random.nextInt(90 * 60));
+                LocalTime checkOut = checkIn.plusMinutes(480 + random.nextInt(90));
+                batch.append(String.format("{\"employeeId\":%d,\"date\":\"%s\",\"checkInTime\":\"%s\",\"checkOutTime\":\"%s\"}%n",
+                        employeeId, date, checkIn, checkOut));
+                if (++rows == BULK_BATCH) {
+                    batches.add(batch.toString());
+                    batch.setLength(0);
+                    rows = 0;
+                }
+            }
+        }
+        if (rows > 0) {
+            batches.add(batch.toString());
+        }
+
+        long[] accepted = new long[1];
+        Semaphore permits = new Semaphore(Math.max(1, concurrency / 8));
+        recorder.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < batches.size(); i++) {
+                int user = i;
+                String body = batches.get(i);
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        HttpResponse<String> response = client.send(
+                                client.post("/attendance/bulk", user, "application/x-ndjson", body), recorder);
+                        long count = field(response, "accepted");
+                        recorder.addRows(count);
+                        synchronized (accepted) {
+                            accepted[0] += count;
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        recorder.stop();
+        return accepted[0];
+    }
+
+    /** Starts a payroll run over last month with attendance applied and waits for it to finish. */
+    public String runPayroll(Duration timeout, LatencyRecorder recorder) throws InterruptedException {
+        LocalDate lastMonth = LocalDate.now().minusMonths(1).withDayOfMonth(1);
+        String body = String.format("{\"periodStart\":\"%s\",\"periodEnd\":\"%s\",\"bonusRate\":0.1,\"applyAttendance\":true}",
+                lastMonth, lastMonth.withDayOfMonth(lastMonth.lengthOfMonth()));
+        recorder.start();
+        Long runId = idOf(client.send(client.post("/payroll/runs", 0, "application/json", body), recorder));
+        if (runId == null) {
+            recorder.stop();
+            return "NOT_STARTED";
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String status = "RUNNING";
+        while (status.equals("RUNNING") && System.nanoTime() < deadline) {
+            Thread.sleep(500);
+            HttpResponse<String> response = client.send(client.get("/payroll/runs/" + runId, 0), recorder);
+            JsonNode run = json(response);
+            if (run != null && run.hasNonNull("status")) {
+                status = run.get("status").asText();
+            }
+        }
+        recorder.stop();
+        return status;
+    }
+
+    private Long idOf(HttpResponse<String> response) {
+        JsonNode node = json(response);
+        return node != null && node.hasNonNull("id") ? node.get("id").asLong() : null;
+    }
+
+    private long field(HttpResponse<String> response, String name) {
+        JsonNode node = json(response);
+        return node != null && node.hasNonNull(name) ? node.get(name).asLong() : 0;
+    }
+
+    private JsonNode json(HttpResponse<String> response) {
+        if (response == null || response.statusCode() >= 300) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.hrms.benchmarks.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs api-gateway and the four domain services from their Boot jars as local processes, each on
+ * its own in-memory H2 database in MySQL mode. Eureka is replaced by Spring Cloud's simple
+ * discovery client: every process gets the fixed instance list, so {@code lb://} routes and the
+ * services' load-balanced clients resolve exactly as they do against the registry.
+ */
+public class ServiceCluster implements AutoCloseable {
+    private static final String LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    private final Path projectDir;
+    private final Path h2Jar;
+    private final Path logDir;
+    private final String jvmOptions;
+    private final String profiles;
+    private final boolean secondLevelCache;
+    private final boolean rateLimit;
+    private final Map<String, Integer> ports = new LinkedHashMap<>();
+    private final List<Process> processes = new ArrayList<>();
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    public ServiceCluster(Path projectDir, Path h2Jar, Path logDir, int portOffset, String jvmOptions,
+                          String profiles, boolean secondLevelCache, boolean rateLimit) {
+        this.projectDir = projectDir;
+        this.h2Jar = h2Jar;
+        this.logDir = logDir;
+        this.jvmOptions = jvmOptions;
+        this.profiles = profiles;
+        this.secondLevelCache = secondLevelCache;
+        this.rateLimit = rateLimit;
+        ports.put("user-service", 8101 + portOffset);
+        ports.put("employee-service", 8102 + portOffset);
+        ports.put("payroll-service", 8103 + portOffset);
+        ports.put("attendance-service", 8104 + portOffset);
+        ports.put("api-gateway", 8080 + portOffset);
+    }
+
+    public String getGatewayUrl() {
+        return "http://localhost:" + ports.get("api-gateway");
+    }
+
+    /** Starts the domain services side by side, then the gateway, and waits for every health check. */
+    public void start(Duration timeout) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(h2Jar)) {
+            throw new IllegalStateException(h2Jar + " not found; build with mvn -Pbenchmarks package");
+        }
+        Files.createDirectories(logDir);
+        for (String service : ports.keySet()) {
+            if (!service.equals("api-gateway")) {
+                launch(service);
+            }
+        }
+        for (String service : ports.keySet()) {
+            if (!service.equals("api-gateway")) {
+                awaitHealthy(service, timeout);
+            }
+        }
+        launch("api-gateway");
+        awaitHealthy("api-gateway", timeout);
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void launch(String service) throws IOException {
+        Path jar = projectDir.resolve(service).resolve("target").resolve(service + "-0.0.1-SNAPSHOT.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found; build the services first");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmOptions.isBlank()) {
+            command.addAll(List.of(jvmOptions.trim().split("\\s+")));
+        }
+        // PropertiesLauncher adds the H2 driver, which the service jars do not ship, to the classpath
+        command.add("-Dloader.path=" + h2Jar.toAbsolutePath());
+        command.add("-cp");
+        command.add(jar.toAbsolutePath().toString());
+        command.add(LAUNCHER);
+        command.addAll(arguments(service));
+
+        Path log = logDir.resolve(service + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+        System.out.printf("Started %s on port %d (log: %s)%n", service, ports.get(service), log);
+    }
+
+    private List<String> arguments(String service) {
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=" + ports.get(service));
+        args.add("--spring.cloud.config.enabled=false");
+        args.add("--eureka.client.enabled=false");
+        for (Map.Entry<String, Integer> instance : ports.entrySet()) {
+            args.add("--spring.cloud.discovery.client.simple.instances." + instance.getKey()
+                    + "[0].uri=http://localhost:" + instance.getValue());
+        }
+        if (!profiles.isBlank()) {
+            args.add("--spring.profiles.active=" + profiles);
+        }
+        if (service.equals("api-gateway")) {
+            args.add("--hrms.gateway.rate-limit.enabled=" + rateLimit);
+            // The suite sends one X-Forwarded-For address per simulated user from this host
+            args.add("--hrms.gateway.rate-limit.trusted-proxies=127.0.0.1,::1");
+            // The simulated users are anonymous; token checks are not part of what is measured
+            args.add("--hrms.gateway.auth.required=false");
+            return args;
+        }
+
+        String database = service.substring(0, service.indexOf('-')) + "db";
+        args.add("--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        args.add("--spring.datasource.username=sa");
+        args.add("--spring.datasource.password=");
+        args.add("--spring.jpa.show-sql=false");
+        // A replica list inherited from the environment would point at MySQL
+        args.add("--hrms.datasource.replicas=");
+        // Outbox rows are still written with every change; delivering them is outside what is measured
+        args.add("--hrms.events.relay.enabled=false");
+        if (secondLevelCache) {
+            // The prod profile's cache settings, without its Connector/J driver properties that H2 rejects
+            args.add("--spring.jpa.properties.jakarta.persistence.sharedCache.mode=ENABLE_SELECTIVE");
+            args.add("--spring.jpa.properties.hibernate.cache.use_second_level_cache=true");
+            args.add("--spring.jpa.properties.hibernate.cache.use_query_cache=true");
+            args.add("--spring.jpa.properties.hibernate.cache.region.factory_class=jcache");
+            args.add("--spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            args.add("--spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create-warn");
+        }
+        return args;
+    }
+
+    private void awaitHealthy(String service, Duration timeout) throws InterruptedException {
+        URI health = URI.create("http://localhost:" + ports.get(service) + "/actuator/health");
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (Process process : processes) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("A service exited during startup (exit code "
+                            + process.exitValue() + "); see the logs in " + logDir);
+                }
+            }
+            try {
+                HttpResponse<String> response = http.send(HttpRequest.newBuilder(health).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    System.out.printf("%s is up%n", service);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException(service + " not healthy after " + timeout.toSeconds() + "s; see " + logDir);
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.hrms.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The traffic patterns replayed through the gateway. Polling and lookups are closed loops: a fixed
+ * number of simulated users, each sending its next request once the previous one has answered
+ * (plus think time), for a warm-up whose numbers are thrown away and then the measured duration.
+ * The check-in burst and attendance ingestion are fixed amounts of work pushed through as fast as
+ * their concurrency allows.
+ */
+public class Workloads {
+    private static final String[] SUMMARIES = {"/employees/summary", "/attendance/summary", "/payroll/summary"};
+    private static final String[] SEARCH_TERMS = {"Sharma", "Nguyen", "Garcia", "Tanaka", "Maya", "Omar", "Engineer", "Finance"};
+
+    private final GatewayClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration warmup;
+    private final Duration duration;
+
+    public Workloads(GatewayClient client, Duration warmup, Duration duration) {
+        this.client = client;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * Open dashboards: every {@code interval} each one fetches the three summaries in parallel, as
+     * Dashboard.js does, revalidating with the ETag it last saw so unchanged summaries come back 304.
+     */
+    public List<LatencyRecorder> dashboardPolling(int users, Duration interval) throws InterruptedException {
+        return measure(users, recorders -> {
+            LatencyRecorder[] bySummary = new LatencyRecorder[SUMMARIES.length];
+            for (int i = 0; i < SUMMARIES.length; i++) {
+                bySummary[i] = recorder(recorders, "GET " + SUMMARIES[i]);
+            }
+            return user -> {
+                String[] etags = new String[SUMMARIES.length];
+                // Dashboards were opened at different moments, so their refreshes do not line up
+                Thread.sleep(ThreadLocalRandom.current().nextLong(interval.toMillis() + 1));
+                return () -> {
+                    Thread[] requests = new Thread[SUMMARIES.length];
+                    for (int i = 0; i < SUMMARIES.length; i++) {
+                        int summary = i;
+                        requests[i] = Thread.startVirtualThread(() -> {
+                            HttpRequest.Builder request = client.get(SUMMARIES[summary], user);
+                            if (etags[summary] != null) {
+                                request.header("If-None-Match", etags[summary]);
+                            }
+                            HttpResponse<String> response = client.send(request, bySummary[summary]);
+                            if (response != null) {
+                                response.headers().firstValue("ETag").ifPresent(etag -> etags[summary] = etag);
+                            }
+                        });
+                    }
+                    for (Thread request : requests) {
+                        request.join();
+                    }
+                    return interval;
+                };
+            };
+        });
+    }
+
+    /** Employee lookups by id and name search with no think time: the read path behind every page. */
+    public List<LatencyRecorder> employeeLookups(int users, List<Long> employeeIds) throws InterruptedException {
+        return measure(users, recorders -> {
+            LatencyRecorder byId = recorder(recorders, "GET /employees/{id}");
+            LatencyRecorder search = recorder(recorders, "GET /employees/search");
+            return user -> () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (random.nextInt(5) > 0) {
+                    Long id = employeeIds.get(random.nextInt(employeeIds.size()));
+                    client.send(client.get("/employees/" + id, user), byId);
+                } else {
+                    String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+                    client.send(client.get("/employees/search?q=" + term, user), search);
+                }
+                return Duration.ZERO;
+            };
+        });
+    }
+
+    /**
+     * The start of a working day: every employee checks in within a few minutes, then everyone
+     * checks out. {@code concurrency} requests are in flight at any time.
+     */
+    public List<LatencyRecorder> checkInBurst(List<Long> employeeIds, int concurrency) throws InterruptedException {
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        burst(employeeIds, concurrency, "/attendance/check-in", recorder(recorders, "POST /attendance/check-in"));
+        burst(employeeIds, concurrency, "/attendance/check-out", recorder(recorders, "POST /attendance/check-out"));
+        return recorders;
+    }
+
+    private void burst(List<Long> employeeIds, int concurrency, String path, LatencyRecorder recorder)
+            throws InterruptedException {
+        List<Long> shuffled = new ArrayList<>(employeeIds);
+        Collections.shuffle(shuffled);
+        drain(shuffled.size(), concurrency, recorder, i -> {
+            Long employeeId = shuffled.get(i);
+            client.send(client.post(path, employeeId.intValue(), "application/json",
+                    "{\"employeeId\":" + employeeId + "}"), recorder);
+        });
+    }
+
+    /**
+     * Badge-reader ingestion: the same number of attendance rows written once as one
+     * {@code POST /attendance} per row and once as NDJSON batches to {@code POST /attendance/bulk},
+     * at the same concurrency. Rows go on the days before {@code before}, which the seed leaves
+     * empty, so every row is a new insert; compare the two recorders' rows/s.
+     */
+    public List<LatencyRecorder> attendanceIngest(List<Long> employeeIds, LocalDate before, int rows, int batchSize,
+                                                  int concurrency) throws InterruptedException {
+        List<String> events = new ArrayList<>(2 * rows);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 2 * rows; i++) {
+            LocalDate date = before.minusDays(1 + i / employeeIds.size());
+            LocalTime checkIn = LocalTime.of(8, 15).plusSeconds(random.nextInt(90 * 60));
+            events.add(String.format("{\"employeeId\":%d,\"date\":\"%s\",\"checkInTime\":\"%s\",\"checkOutTime\":\"%s\"}",
+                    employeeIds.get(i % employeeIds.size()), date, checkIn, checkIn.plusMinutes(480 + random.nextInt(90))));
+        }
+        List<String> batches = new ArrayList<>();
+        for (int from = rows; from < 2 * rows; from += batchSize) {
+            batches.add(String.join("\n", events.subList(from, Math.min(from + batchSize, 2 * rows))) + "\n");
+        }
+
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        LatencyRecorder single = recorder(recorders, "POST /attendance");
+        drain(rows, concurrency, single, i -> {
+            HttpResponse<String> response = client.send(client.post("/attendance", i, "application/json", events.get(i)), single);
+            if (response != null && response.statusCode() < 400) {
+                single.addRows(1);
+            }
+        });
+        LatencyRecorder bulk = recorder(recorders, "POST /attendance/bulk (" + batchSize + "/req)");
+        drain(batches.size(), concurrency, bulk, i -> {
+            HttpResponse<String> response = client.send(
+                    client.post("/attendance/bulk", i, "application/x-ndjson", batches.get(i)), bulk);
+            bulk.addRows(accepted(response));
+        });
+        return recorders;
+    }
+
+    private interface Task {
+        void run(int index);
+    }
+
+    // Runs tasks 0..count-1 on `concurrency` workers, timed as one phase
+    private static void drain(int count, int concurrency, LatencyRecorder recorder, Task task) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        recorder.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                executor.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < count) {
+                        task.run(i);
+                    }
+                });
+            }
+        }
+        recorder.stop();
+    }
+
+    private long accepted(HttpResponse<String> response) {
+        if (response == null || response.statusCode() >= 300) {
+            return 0;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(response.body());
+            return node.path("accepted").asLong();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /** One simulated user: set up once, then {@link Step#run} repeatedly until the phase ends. */
+    private interface User {
+        Step start(int user) throws InterruptedException;
+    }
+
+    /** One iteration of a user's loop; returns the think time before the next one. */
+    private interface Step {
+        Duration run() throws InterruptedException;
+    }
+
+    // Runs the warm-up with recorders that are then dropped, and the measured phase with fresh ones
+    private List<LatencyRecorder> measure(int users, Function<List<LatencyRecorder>, User> workload)
+            throws InterruptedException {
+        if (!warmup.isZero()) {
+            List<LatencyRecorder> discarded = new ArrayList<>();
+            closedLoop(users, warmup, workload.apply(discarded), discarded);
+        }
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        closedLoop(users, duration, workload.apply(recorders), recorders);
+        return recorders;
+    }
+
+    private void closedLoop(int users, Duration length, User workload, List<LatencyRecorder> recorders)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        recorders.forEach(LatencyRecorder::start);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                int id = user;
+                executor.submit(() -> {
+                    Step step = workload.start(id);
+                    while (System.nanoTime() < deadline) {
+                        Duration think = step.run();
+                        // Never sleep past the end of the phase, so it finishes on time
+                        long pause = Math.min(think.toNanos(), deadline - System.nanoTime());
+                        if (pause > 0) {
+                            Thread.sleep(Duration.ofNanos(pause));
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        recorders.forEach(LatencyRecorder::stop);
+    }
+
+    private static LatencyRecorder recorder(List<LatencyRecorder> recorders, String name) {
+        LatencyRecorder recorder = new LatencyRecorder(name);
+        recorders.add(recorder);
+        return recorder;
+    }
+}
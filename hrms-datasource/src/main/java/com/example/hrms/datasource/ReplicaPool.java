@@ -0,0 +1,211 @@
+package com.example.hrms.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only side of the routing DataSource: hands out connections from the replicas round-robin
+ * and falls back to the primary when none is usable. A background check marks a replica down when
+ * it stops answering or its replication lag passes {@code maxLag}; a connection failure marks it
+ * down immediately, and the next passing check brings it back.
+ */
+public class ReplicaPool extends AbstractDataSource implements SmartLifecycle, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryReads;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    /**
+     * @param lagQuery query run on each replica whose {@code lagColumn} holds the lag in seconds;
+     *                 blank to check liveness only (H2 or a non-replicating stand-in)
+     */
+    public ReplicaPool(HikariDataSource primary, List<HikariDataSource> replicaPools, String lagQuery,
+                       String lagColumn, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.replicas = new ArrayList<>(replicaPools.size());
+        for (HikariDataSource pool : replicaPools) {
+            replicas.add(new Replica(pool, meterRegistry));
+        }
+        this.primaryReads = Counter.builder("hrms.datasource.reads")
+                .description("Read-only connections handed out, by the pool that served them")
+                .tag("pool", primary.getPoolName())
+                .register(meterRegistry);
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.up) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, "connection failed: " + e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Replica pools are opened with their configured credentials, so a request for other
+     * credentials is served the way the primary serves it, as the routing DataSource does for writes.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryReads.increment();
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Replicas start out down, so the first check runs straight away
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+        primary.close();
+    }
+
+    void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.pool.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                replica.lagSeconds = 0;
+                markUp(replica);
+                return;
+            }
+            Long lag = readLag(connection);
+            replica.lagSeconds = lag == null ? Double.NaN : lag;
+            if (lag == null) {
+                markDown(replica, "replication is not running");
+            } else if (lag > maxLag.toSeconds()) {
+                markDown(replica, "lagging " + lag + "s behind the primary");
+            } else {
+                markUp(replica);
+            }
+        } catch (SQLException | RuntimeException e) {
+            replica.lagSeconds = Double.NaN;
+            markDown(replica, "check failed: " + e.getMessage());
+        }
+    }
+
+    // Null when the replica reports no lag, i.e. it is not replicating
+    private Long readLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+            long lag = rs.getLong(lagColumn);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.up) {
+            replica.up = true;
+            log.info("Replica {} is serving reads", replica.pool.getPoolName());
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.up) {
+            replica.up = false;
+            log.warn("Replica {} taken out of rotation, reads fall back to the primary: {}",
+                    replica.pool.getPoolName(), reason);
+        }
+    }
+
+    private static final class Replica {
+        final HikariDataSource pool;
+        final Counter reads;
+        volatile boolean up;
+        volatile double lagSeconds = Double.NaN;
+
+        Replica(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.reads = Counter.builder("hrms.datasource.reads")
+                    .description("Read-only connections handed out, by the pool that served them")
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("hrms.datasource.replica.up", this, r -> r.up ? 1 : 0)
+                    .description("1 while the replica is in the read rotation")
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("hrms.datasource.replica.lag", this, r -> r.lagSeconds)
+                    .description("Replication lag reported by the last check")
+                    .baseUnit("seconds")
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hrms.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces Boot's DataSource when {@code hrms.datasource.replicas} lists replica JDBC URLs.
+ * Connections are taken lazily, so by the time a statement runs the transaction manager has marked
+ * the connection read-only: {@code @Transactional(readOnly = true)} work goes to the replicas,
+ * everything else to the primary. Both sides take their pool settings from {@code spring.datasource.hikari}.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnExpression("!'${hrms.datasource.replicas:}'.isBlank()")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaRoutingAutoConfiguration {
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                   @Value("${hrms.datasource.replicas}") List<String> urls,
+                                   @Value("${hrms.datasource.replica.username:}") String username,
+                                   @Value("${hrms.datasource.replica.password:}") String password,
+                                   @Value("${hrms.datasource.replica.connection-timeout:2s}") Duration connectionTimeout,
+                                   @Value("${hrms.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                   @Value("${hrms.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+                                   @Value("${hrms.datasource.replica.max-lag:10s}") Duration maxLag,
+                                   @Value("${hrms.datasource.replica.check-interval:5s}") Duration checkInterval) {
+        Binder binder = Binder.get(environment);
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, "primary", binder, metrics);
+
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(urls.get(i).trim())
+                    .username(username.isBlank() ? properties.determineUsername() : username)
+                    .password(password.isBlank() ? properties.determinePassword() : password)
+                    .build();
+            configure(replica, "replica-" + (i + 1), binder, metrics);
+            // A replica that is down must not stall startup or hold a read for the full primary timeout
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaPool(primary, replicas, lagQuery, lagColumn, maxLag, checkInterval, meterRegistry);
+    }
+
+    // ReplicaPool is itself a DataSource; JPA and JdbcTemplate must get the routing proxy
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaPool replicaPool) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaPool.getPrimary());
+        dataSource.setReadOnlyDataSource(replicaPool);
+        return dataSource;
+    }
+
+    // Pool names tag the hikaricp.* meters, so each side can be watched separately
+    private static void configure(HikariDataSource pool, String name, Binder binder,
+                                  MicrometerMetricsTrackerFactory metrics) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(metrics);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.hrms.employeeclient;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+public class EmployeeClient {
+    private static final ParameterizedTypeReference<List<EmployeeRecord>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<List<Long>> ID_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${hrms.clients.employee-service.url:http://employee-service}")
+    private String baseUrl;
+
+    /** One keyset page of employees with id greater than {@code after}, ordered by id. */
+    public List<EmployeeRecord> fetchPage(long after, int size) {
+        List<EmployeeRecord> page = restTemplate.exchange(
+                baseUrl + "/employees?after={after}&size={size}", HttpMethod.GET, null, EMPLOYEE_LIST, after, size)
+                .getBody();
+        return page == null ? List.of() : page;
+    }
+
+    /** Employees for the given ids in one call; unknown ids are simply absent. */
+    public List<EmployeeRecord> fetchByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<EmployeeRecord> employees = restTemplate.exchange(
+                baseUrl + "/employees/batch?ids={ids}", HttpMethod.GET, null, EMPLOYEE_LIST,
+                StringUtils.collectionToCommaDelimitedString(ids))
+                .getBody();
+        return employees == null ? List.of() : employees;
+    }
+
+    /** Ids of every employee in the department, ascending; used to filter exports by department. */
+    public List<Long> fetchIdsByDepartment(String department) {
+        List<Long> ids = restTemplate.exchange(
+                baseUrl + "/employees/ids?department={department}", HttpMethod.GET, null, ID_LIST, department)
+                .getBody();
+        return ids == null ? List.of() : ids;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hrms.employeeclient;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Employee-service client and the cached directory built on it, for services that enrich their
+ * rows with employee details. Also provides the service's load-balanced {@link RestTemplate},
+ * which its other clients share.
+ */
+@AutoConfiguration(after = RestTemplateAutoConfiguration.class)
+public class EmployeeClientAutoConfiguration {
+
+    // Resolves lb-style hosts such as http://employee-service through Eureka
+    @Bean
+    @LoadBalanced
+    @ConditionalOnMissingBean(RestTemplate.class)
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+        return builder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EmployeeClient employeeClient() {
+        return new EmployeeClient();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EmployeeDirectory employeeDirectory() {
+        return new EmployeeDirectory();
+    }
+}
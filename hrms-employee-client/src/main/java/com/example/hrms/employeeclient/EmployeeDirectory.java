@@ -0,0 +1,88 @@
+package com.example.hrms.employeeclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local, short-lived replica of employee-service records used to enrich responses.
+ * Ids are resolved per page: cached entries are reused and the rest are fetched with
+ * one /employees/batch call per chunk, never one call per row.
+ */
+public class EmployeeDirectory {
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${hrms.employee-directory.max-size:50000}")
+    private long maxSize;
+
+    @Value("${hrms.employee-directory.ttl:2m}")
+    private Duration ttl;
+
+    @Value("${hrms.employee-directory.batch-size:1000}")
+    private int batchSize;
+
+    private Cache<Long, EmployeeRecord> cache;
+    private Timer enrichmentTimer;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employee-directory");
+        enrichmentTimer = Timer.builder("hrms.employee.enrichment")
+                .description("Time spent resolving employee details for a response page")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public Map<Long, EmployeeRecord> resolve(Collection<Long> employeeIds) {
+        return enrichmentTimer.record(() -> load(employeeIds));
+    }
+
+    public void invalidate(Long employeeId) {
+        cache.invalidate(employeeId);
+    }
+
+    private Map<Long, EmployeeRecord> load(Collection<Long> employeeIds) {
+        Set<Long> requested = new LinkedHashSet<>(employeeIds);
+        requested.remove(null);
+        Map<Long, EmployeeRecord> found = new HashMap<>(cache.getAllPresent(requested));
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Long> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            for (EmployeeRecord employee : employeeClient.fetchByIds(chunk)) {
+                cache.put(employee.getId(), employee);
+                found.put(employee.getId(), employee);
+            }
+        }
+        return found;
+    }
+}
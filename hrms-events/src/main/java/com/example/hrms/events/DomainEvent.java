@@ -0,0 +1,47 @@
+package com.example.hrms.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * One change recorded in a service's outbox. {@code id} is the outbox row id and is only
+ * ordered within a single source service; consumers must tolerate redelivery.
+ */
+public class DomainEvent {
+    private long id;
+    private String source;
+    private String aggregateType;
+    private String aggregateId;
+    private String type;
+    private JsonNode payload;
+    private Instant occurredAt;
+
+    public DomainEvent() {}
+
+    public DomainEvent(long id, String source, String aggregateType, String aggregateId, String type,
+                       JsonNode payload, Instant occurredAt) {
+        this.id = id;
+        this.source = source;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+    public String getAggregateId() { return aggregateId; }
+    public void setAggregateId(String aggregateId) { this.aggregateId = aggregateId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public JsonNode getPayload() { return payload; }
+    public void setPayload(JsonNode payload) { this.payload = payload; }
+    public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,16 @@
+package com.example.hrms.events;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transport between the outbox relay and event handlers. {@link #publish} must either
+ * deliver the whole batch or throw, so the relay can retry it; delivery is at-least-once.
+ */
+public interface EventBroker {
+
+    void publish(List<DomainEvent> events);
+
+    /** Registers a local handler for every event whose type equals or starts with {@code typePrefix}. */
+    void subscribe(String typePrefix, Consumer<DomainEvent> handler);
+}
@@ -0,0 +1,33 @@
+package com.example.hrms.events;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Receiving end of {@link HttpEventBroker}. Service-to-service only: the gateway has no
+ * route for /internal/**. A handler failure answers 500, which fails the sender's batch so
+ * its relay keeps the events unpublished and retries them.
+ */
+@RestController
+public class EventReceiverController {
+    private final InMemoryEventBroker broker;
+
+    public EventReceiverController(InMemoryEventBroker broker) {
+        this.broker = broker;
+    }
+
+    @PostMapping(HttpEventBroker.RECEIVE_PATH)
+    public ResponseEntity<Void> receive(@RequestBody List<DomainEvent> events) {
+        try {
+            broker.dispatch(events);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.hrms.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outbox writer, relay and broker for services with a JDBC DataSource. The broker is
+ * {@code http} (push to {@code hrms.events.peers}) by default, or {@code in-memory}.
+ */
+@AutoConfiguration(after = {HibernateJpaAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class})
+@ConditionalOnBean(JdbcTemplate.class)
+@ConditionalOnProperty(name = "hrms.events.enabled", havingValue = "true", matchIfMissing = true)
+public class EventsAutoConfiguration {
+
+    static final String CREATE_TABLE_SQL = "create table if not exists outbox_events ("
+            + "id bigint not null auto_increment primary key, "
+            + "aggregate_type varchar(64) not null, "
+            + "aggregate_id varchar(64) not null, "
+            + "event_type varchar(128) not null, "
+            + "payload text not null, "
+            + "created_at timestamp(3) not null, "
+            + "published_at timestamp(3) null, "
+            + "claimed_until timestamp(3) null, "
+            + "index idx_outbox_published (published_at, id))";
+
+    @Bean
+    public OutboxWriter outboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        // The schema is owned by this module rather than the services' ddl-auto
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        addLeaseColumn(jdbcTemplate);
+        return new OutboxWriter(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(InMemoryEventBroker.class)
+    @ConditionalOnProperty(name = "hrms.events.broker", havingValue = "in-memory")
+    public InMemoryEventBroker inMemoryEventBroker() {
+        return new InMemoryEventBroker();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(InMemoryEventBroker.class)
+    @ConditionalOnProperty(name = "hrms.events.broker", havingValue = "http", matchIfMissing = true)
+    public HttpEventBroker httpEventBroker(@Value("${hrms.events.peers:}") List<String> peers,
+                                           LoadBalancerClient loadBalancerClient,
+                                           RestTemplateBuilder restTemplateBuilder) {
+        return new HttpEventBroker(peers, loadBalancerClient, restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(2))
+                .setReadTimeout(Duration.ofSeconds(10))
+                .build());
+    }
+
+    // Custom brokers should extend InMemoryEventBroker so pushed events reach local handlers
+    @Bean
+    public EventReceiverController eventReceiverController(InMemoryEventBroker broker) {
+        return new EventReceiverController(broker);
+    }
+
+    // Takes the writer so the outbox table exists before the first poll
+    @Bean
+    @ConditionalOnProperty(name = "hrms.events.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxWriter outboxWriter, JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager, EventBroker broker,
+                                   ObjectMapper objectMapper, MeterRegistry meterRegistry, Environment environment,
+                                   @Value("${hrms.events.relay.batch-size:500}") int batchSize,
+                                   @Value("${hrms.events.relay.interval:500ms}") Duration interval,
+                                   @Value("${hrms.events.relay.retention:1h}") Duration retention,
+                                   @Value("${hrms.events.relay.lease:2m}") Duration lease) {
+        String source = environment.getProperty("spring.application.name", "unknown");
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), broker, objectMapper,
+                meterRegistry, source, batchSize, interval, retention, lease);
+    }
+
+    // Outbox tables created before the relay used leases lack claimed_until
+    private static void addLeaseColumn(JdbcTemplate jdbcTemplate) {
+        try {
+            jdbcTemplate.execute("select claimed_until from outbox_events where 1 = 0");
+        } catch (BadSqlGrammarException e) {
+            jdbcTemplate.execute("alter table outbox_events add column claimed_until timestamp(3) null");
+        }
+    }
+}
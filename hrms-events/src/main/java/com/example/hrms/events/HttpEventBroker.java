@@ -0,0 +1,39 @@
+package com.example.hrms.events;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Pushes each batch to the configured peer services' {@code /internal/events} endpoint,
+ * one POST per peer per batch, picking an instance through the Eureka-backed load balancer.
+ * Local handlers run first. A local handler failure, or a peer that is unreachable or answers
+ * with an error status, fails the batch, so it is retried for all peers.
+ */
+public class HttpEventBroker extends InMemoryEventBroker {
+    public static final String RECEIVE_PATH = "/internal/events";
+
+    private final List<String> peers;
+    private final LoadBalancerClient loadBalancerClient;
+    private final RestTemplate restTemplate;
+
+    public HttpEventBroker(List<String> peers, LoadBalancerClient loadBalancerClient, RestTemplate restTemplate) {
+        this.peers = List.copyOf(peers);
+        this.loadBalancerClient = loadBalancerClient;
+        this.restTemplate = restTemplate;
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        dispatch(events);
+        for (String peer : peers) {
+            ServiceInstance instance = loadBalancerClient.choose(peer);
+            if (instance == null) {
+                throw new IllegalStateException("No instance of " + peer + " available for event delivery");
+            }
+            restTemplate.postForLocation(instance.getUri().resolve(RECEIVE_PATH), events);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.hrms.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers events synchronously to handlers in this JVM. Used on its own for local runs and
+ * tests ({@code hrms.events.broker=in-memory}) and as the receiving side of {@link HttpEventBroker}.
+ */
+public class InMemoryEventBroker implements EventBroker {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryEventBroker.class);
+
+    private record Subscription(String typePrefix, Consumer<DomainEvent> handler) {}
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        dispatch(events);
+    }
+
+    @Override
+    public void subscribe(String typePrefix, Consumer<DomainEvent> handler) {
+        subscriptions.add(new Subscription(typePrefix, handler));
+    }
+
+    /**
+     * Runs matching handlers. A failing handler does not stop the others, but the first failure is
+     * rethrown once every handler has run, so the batch is not acknowledged and is delivered again;
+     * handlers must therefore be idempotent.
+     */
+    public void dispatch(List<DomainEvent> events) {
+        RuntimeException failure = null;
+        for (DomainEvent event : events) {
+            for (Subscription subscription : subscriptions) {
+                if (event.getType().startsWith(subscription.typePrefix())) {
+                    try {
+                        subscription.handler().accept(event);
+                    } catch (RuntimeException e) {
+                        log.warn("Handler for {} failed on event {} from {}", subscription.typePrefix(),
+                                event.getId(), event.getSource(), e);
+                        if (failure == null) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
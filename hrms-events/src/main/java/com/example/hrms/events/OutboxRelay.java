@@ -0,0 +1,176 @@
+package com.example.hrms.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the outbox and hands unpublished rows to the {@link EventBroker} in batches.
+ * A batch is claimed in a short transaction: SELECT ... FOR UPDATE SKIP LOCKED picks rows
+ * without a live lease and stamps {@code claimed_until} on them, so several instances of a
+ * service can relay concurrently. The broker is called with no transaction or connection held,
+ * so a slow peer does not pin a pooled connection or row locks. A second short transaction marks
+ * the batch published. A failed batch has its lease cleared and is retried on the next tick; if
+ * the relay dies mid-batch the lease expires and another instance picks the rows up.
+ * Published rows are purged after a retention period.
+ */
+public class OutboxRelay implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_SQL = "select id, aggregate_type, aggregate_id, event_type, payload, created_at "
+            + "from outbox_events where published_at is null and (claimed_until is null or claimed_until < ?) "
+            + "order by id limit ? for update skip locked";
+    private static final String LEASE_SQL = "update outbox_events set claimed_until = ? where id = ?";
+    private static final String MARK_SQL = "update outbox_events set published_at = ?, claimed_until = null where id = ?";
+    private static final String RELEASE_SQL = "update outbox_events set claimed_until = null where id = ?";
+    private static final String PURGE_SQL = "delete from outbox_events where published_at < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventBroker broker;
+    private final ObjectMapper objectMapper;
+    private final String source;
+    private final int batchSize;
+    private final Duration interval;
+    private final Duration retention;
+    private final Duration lease;
+    private final Counter published;
+    private final Counter failures;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, EventBroker broker,
+                       ObjectMapper objectMapper, MeterRegistry meterRegistry, String source,
+                       int batchSize, Duration interval, Duration retention, Duration lease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.broker = broker;
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.retention = retention;
+        this.lease = lease;
+        this.published = meterRegistry.counter("hrms.outbox.published");
+        this.failures = meterRegistry.counter("hrms.outbox.failures");
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 10, TimeUnit.MINUTES);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Publishes full batches back to back until the outbox is empty or a batch fails. */
+    void drain() {
+        try {
+            int count;
+            do {
+                count = relayBatch();
+                published.increment(count);
+            } while (count == batchSize && running);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay batch failed; it will be retried", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<DomainEvent> events = transactionTemplate.execute(status -> claim());
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        try {
+            broker.publish(events);
+        } catch (RuntimeException e) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(RELEASE_SQL, ids(events)));
+            } catch (RuntimeException releaseFailure) {
+                // The lease still expires on its own
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MARK_SQL, args(now, events)));
+        return events.size();
+    }
+
+    private List<DomainEvent> claim() {
+        Instant now = Instant.now();
+        List<DomainEvent> events = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> {
+            try {
+                return new DomainEvent(rs.getLong("id"), source, rs.getString("aggregate_type"),
+                        rs.getString("aggregate_id"), rs.getString("event_type"),
+                        objectMapper.readTree(rs.getString("payload")), rs.getTimestamp("created_at").toInstant());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, Timestamp.from(now), batchSize);
+        if (!events.isEmpty()) {
+            jdbcTemplate.batchUpdate(LEASE_SQL, args(Timestamp.from(now.plus(lease)), events));
+        }
+        return events;
+    }
+
+    private static List<Object[]> args(Timestamp timestamp, List<DomainEvent> events) {
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            args.add(new Object[] {timestamp, event.getId()});
+        }
+        return args;
+    }
+
+    private static List<Object[]> ids(List<DomainEvent> events) {
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            args.add(new Object[] {event.getId()});
+        }
+        return args;
+    }
+
+    private void purge() {
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.from(Instant.now().minus(retention)), 10_000);
+            } while (deleted == 10_000 && running);
+        } catch (RuntimeException e) {
+            log.warn("Outbox purge failed", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hrms.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends events to the outbox table on the caller's connection, so they commit or roll
+ * back with the business write. Must be called inside a transaction.
+ */
+public class OutboxWriter {
+    static final String INSERT_SQL = "insert into outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) "
+            + "values (?, ?, ?, ?, ?)";
+
+    /** A pending event for {@link #appendAll}. */
+    public record Entry(String aggregateType, Object aggregateId, String type, Object payload) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void append(String aggregateType, Object aggregateId, String type, Object payload) {
+        requireTransaction();
+        jdbcTemplate.update(INSERT_SQL, aggregateType, String.valueOf(aggregateId), type, toJson(payload),
+                Timestamp.from(Instant.now()));
+    }
+
+    public void appendAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        requireTransaction();
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            args.add(new Object[] {entry.aggregateType(), String.valueOf(entry.aggregateId()), entry.type(),
+                    toJson(entry.payload()), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event payload is not serialisable", e);
+        }
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written inside the business transaction");
+        }
+    }
+}
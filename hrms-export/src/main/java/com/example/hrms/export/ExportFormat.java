@@ -0,0 +1,38 @@
+package com.example.hrms.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv", true),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", false);
+
+    private final String contentType;
+    private final String extension;
+    // XLSX is already a zip archive; gzipping it again only costs CPU
+    private final boolean compressible;
+
+    ExportFormat(String contentType, String extension, boolean compressible) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.compressible = compressible;
+    }
+
+    public String getContentType() { return contentType; }
+    public String getExtension() { return extension; }
+    public boolean isCompressible() { return compressible; }
+
+    public TabularWriter open(OutputStream out, String sheetName) throws IOException {
+        return this == CSV ? new CsvTabularWriter(out) : new XlsxTabularWriter(out, sheetName);
+    }
+
+    /** Returns null for an unknown format name. */
+    public static ExportFormat parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
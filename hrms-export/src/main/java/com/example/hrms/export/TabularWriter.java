@@ -0,0 +1,22 @@
+package com.example.hrms.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Row-at-a-time writer for exports. Implementations hold no more than a small window of rows,
+ * so memory stays flat however many rows are written.
+ */
+public interface TabularWriter extends AutoCloseable {
+
+    void header(List<String> columns) throws IOException;
+
+    /** Values may be null, strings, numbers or java.time values. */
+    void row(Object... values) throws IOException;
+
+    /** Pushes buffered bytes to the client, so downloads progress while the query is still running. */
+    void flush() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
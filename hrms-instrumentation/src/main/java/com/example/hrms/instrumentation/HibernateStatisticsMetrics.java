@@ -0,0 +1,49 @@
+package com.example.hrms.instrumentation;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate's session-factory statistics as hibernate.* meters. Statistics
+ * must be enabled (hibernate.generate_statistics), which the shared defaults do.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(SessionFactory sessionFactory) {
+        this.statistics = sessionFactory.getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.query.executions", "Queries executed", Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.statements.prepared", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.entities.loaded", "Entities loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetched", "Entities fetched by lazy association", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.entities.inserted", "Entities inserted", Statistics::getEntityInsertCount);
+        counter(registry, "hibernate.entities.updated", "Entities updated", Statistics::getEntityUpdateCount);
+        counter(registry, "hibernate.entities.deleted", "Entities deleted", Statistics::getEntityDeleteCount);
+        counter(registry, "hibernate.transactions", "Transactions completed", Statistics::getTransactionCount);
+        counter(registry, "hibernate.second.level.cache.hits", "Second-level cache hits", Statistics::getSecondLevelCacheHitCount);
+        counter(registry, "hibernate.second.level.cache.misses", "Second-level cache misses", Statistics::getSecondLevelCacheMissCount);
+        counter(registry, "hibernate.query.cache.hits", "Query cache hits", Statistics::getQueryCacheHitCount);
+        counter(registry, "hibernate.query.cache.misses", "Query cache misses", Statistics::getQueryCacheMissCount);
+
+        Gauge.builder("hibernate.query.executions.max", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution seen so far")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .register(registry);
+    }
+}
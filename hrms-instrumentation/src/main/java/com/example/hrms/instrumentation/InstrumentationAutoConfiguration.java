@@ -0,0 +1,38 @@
+package com.example.hrms.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Common tags for every meter plus Hibernate statistics where JPA is on the classpath.
+ * Histogram and exposure defaults live in {@link InstrumentationEnvironmentPostProcessor}.
+ */
+@AutoConfiguration(after = HibernateJpaAutoConfiguration.class)
+public class InstrumentationAutoConfiguration {
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> hrmsCommonTags(Environment environment) {
+        String service = environment.getProperty("spring.application.name", "unknown");
+        return registry -> registry.config().commonTags("service", service);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({SessionFactory.class, EntityManagerFactory.class})
+    @ConditionalOnBean(EntityManagerFactory.class)
+    static class HibernateInstrumentation {
+
+        @Bean
+        public HibernateStatisticsMetrics hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+            return new HibernateStatisticsMetrics(entityManagerFactory.unwrap(SessionFactory.class));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.hrms.instrumentation;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared metric defaults, added with the lowest precedence so any service property,
+ * environment variable or config-server value still wins.
+ */
+public class InstrumentationEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("management.endpoint.prometheus.enabled", "true");
+        // Controller timings (uri/method/status) with buckets for server-side p50/p95/p99
+        defaults.put("management.metrics.distribution.percentiles-histogram.http.server.requests", "true");
+        // Repository method timings
+        defaults.put("management.metrics.distribution.percentiles-histogram.spring.data.repository.invocations", "true");
+        // Gateway per-route latency (routeId/status)
+        defaults.put("spring.cloud.gateway.metrics.enabled", "true");
+        defaults.put("management.metrics.distribution.percentiles-histogram.spring.cloud.gateway.requests", "true");
+        // HikariCP pool wait time (pool saturation shows up as pending threads and acquire latency)
+        defaults.put("management.metrics.distribution.percentiles-histogram.hikaricp.connections.acquire", "true");
+        // Hibernate statistics and slow-query logging
+        defaults.put("spring.jpa.properties.hibernate.generate_statistics", "true");
+        defaults.put("spring.jpa.properties.hibernate.log_slow_query", "200");
+        defaults.put("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener", "WARN");
+        environment.getPropertySources().addLast(new MapPropertySource("hrmsInstrumentationDefaults", defaults));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
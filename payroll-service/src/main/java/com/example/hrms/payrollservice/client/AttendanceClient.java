@@ -0,0 +1,31 @@
+package com.example.hrms.payrollservice.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Component
+public class AttendanceClient {
+    private static final ParameterizedTypeReference<Map<Long, Long>> DAYS_BY_EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${hrms.clients.attendance-service.url:http://attendance-service}")
+    private String baseUrl;
+
+    /** Days with a check-in per employee in the period, in one grouped call. */
+    public Map<Long, Long> fetchDaysPresent(LocalDate from, LocalDate to) {
+        Map<Long, Long> days = restTemplate.exchange(
+                baseUrl + "/attendance/days-present?from={from}&to={to}", HttpMethod.GET, null, DAYS_BY_EMPLOYEE, from, to)
+                .getBody();
+        return days == null ? Map.of() : days;
+    }
+}
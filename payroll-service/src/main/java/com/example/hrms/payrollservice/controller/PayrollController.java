@@ -1,14 +1,49 @@
 package com.example.hrms.payrollservice.controller;
 
+import com.example.hrms.employeeclient.EmployeeClient;
+import com.example.hrms.employeeclient.EmployeeDirectory;
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.example.hrms.events.OutboxWriter;
+import com.example.hrms.export.ExportFormat;
+import com.example.hrms.export.TabularWriter;
+import com.example.hrms.payrollservice.dto.EnrichedPayroll;
+import com.example.hrms.payrollservice.dto.PayrollPatch;
+import com.example.hrms.payrollservice.dto.PayrollSummary;
 import com.example.hrms.payrollservice.entity.Payroll;
 import com.example.hrms.payrollservice.repository.PayrollRepository;
+import com.example.hrms.payrollservice.service.PayrollExportService;
+import com.example.hrms.payrollservice.service.PayrollSummaryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/payroll")
@@ -16,9 +51,146 @@ public class PayrollController {
     @Autowired
     private PayrollRepository payrollRepository;
 
+    @Autowired
+    private PayrollSummaryService payrollSummaryService;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private PayrollExportService payrollExportService;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hrms.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${hrms.pagination.max-size:1000}")
+    private int maxPageSize;
+
     @GetMapping
-    public List<Payroll> getAllPayrolls() {
-        return payrollRepository.findAll();
+    // Read-only, so the page is served by a read replica when one is configured
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Payroll>> getAllPayrolls(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(payrollRepository.findAll());
+        }
+
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<Payroll> page = payrollRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        // A full page means there may be more rows; hand back the last id as the cursor for the next call
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping("/enriched")
+    public ResponseEntity<List<EnrichedPayroll>> getEnrichedPayrolls(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size) {
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<Payroll> page = payrollRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        // One directory lookup per page; unknown employees come back without name and department
+        Map<Long, EmployeeRecord> employees = employeeDirectory.resolve(page.stream().map(Payroll::getEmployeeId).toList());
+        List<EnrichedPayroll> enriched = page.stream()
+            .map(row -> new EnrichedPayroll(row, employees.get(row.getEmployeeId())))
+            .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(enriched);
+    }
+
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @Transactional(readOnly = true)
+    public void streamPayrolls(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        ObjectWriter writer = objectMapper.writer();
+        OutputStream out = response.getOutputStream();
+
+        try (Stream<Payroll> payrolls = payrollRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Payroll> iterator = payrolls.iterator();
+            while (iterator.hasNext()) {
+                Payroll row = iterator.next();
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+                // Detach so the persistence context does not grow with the export
+                entityManager.detach(row);
+            }
+        }
+        out.flush();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<?> exportPayslips(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate periodEnd,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String department,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().body("format must be csv or xlsx");
+        }
+        if (periodStart != null && periodEnd != null && periodStart.isAfter(periodEnd)) {
+            return ResponseEntity.badRequest().body("periodStart must not be after periodEnd");
+        }
+        // Resolved before streaming starts, so an employee-service failure is still a proper error response
+        Set<Long> employeeIds = department == null ? null : new HashSet<>(employeeClient.fetchIdsByDepartment(department));
+        boolean gzip = exportFormat.isCompressible() && acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024, true) : out;
+            try (TabularWriter writer = exportFormat.open(target, "Payroll")) {
+                payrollExportService.export(periodStart, periodEnd, employeeId, employeeIds, writer);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"payroll-" + LocalDate.now() + "." + exportFormat.getExtension() + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<PayrollSummary> getPayrollSummary(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PayrollSummary summary = payrollSummaryService.getSummary();
+        if (summary.getETag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(summary.getETag()).build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(summary.getETag())
+            .body(summary);
     }
 
     @GetMapping("/{id}")
@@ -29,7 +201,13 @@ public class PayrollController {
 
     @PostMapping
     public Payroll createPayroll(@RequestBody Payroll payroll) {
-        return payrollRepository.save(payroll);
+        Payroll savedPayroll = new TransactionTemplate(transactionManager).execute(status -> {
+            Payroll saved = payrollRepository.save(payroll);
+            outboxWriter.append("payroll", saved.getId(), "payroll.created", saved);
+            return saved;
+        });
+        payrollSummaryService.onCreated(savedPayroll);
+        return savedPayroll;
     }
 
     @PutMapping("/{id}")
@@ -39,6 +217,10 @@ public class PayrollController {
             
             if (optionalPayroll.isPresent()) {
                 Payroll payroll = optionalPayroll.get();
+                Double previousBasicPay = payroll.getBasicPay();
+                Double previousBonus = payroll.getBonus();
+                Double previousDeductions = payroll.getDeductions();
+                Double previousNetSalary = payroll.getNetSalary();
                 
                 if (updatedPayroll.getEmployeeId() != null) {
                     payroll.setEmployeeId(updatedPayroll.getEmployeeId());
@@ -56,7 +238,13 @@ public class PayrollController {
                     payroll.setNetSalary(updatedPayroll.getNetSalary());
                 }
                 
-                Payroll savedPayroll = payrollRepository.save(payroll);
+                Payroll savedPayroll = new TransactionTemplate(transactionManager).execute(status -> {
+                    Payroll saved = payrollRepository.save(payroll);
+                    outboxWriter.append("payroll", saved.getId(), "payroll.updated", saved);
+                    return saved;
+                });
+                payrollSummaryService.onUpdated(previousBasicPay, previousBonus, previousDeductions,
+                    previousNetSalary, savedPayroll);
                 return ResponseEntity.ok(savedPayroll);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -68,13 +256,48 @@ public class PayrollController {
         }
     }
 
+    /**
+     * Partial update as one UPDATE statement, without loading the row first. The old amounts are
+     * never read, so the dashboard totals are recomputed on their next read instead of adjusted; the
+     * updated row is read back by id in the same transaction so the event carries all of it.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchPayroll(@PathVariable Long id, @RequestBody PayrollPatch patch) {
+        int updated = new TransactionTemplate(transactionManager).execute(status -> {
+            int count = payrollRepository.patch(id, patch.getBasicPay(), patch.getBonus(), patch.getDeductions(),
+                patch.getNetSalary());
+            if (count > 0) {
+                payrollRepository.findById(id)
+                    .ifPresent(saved -> outboxWriter.append("payroll", id, "payroll.updated", saved));
+            }
+            return count;
+        });
+        if (updated == 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body("Payroll record with id " + id + " not found");
+        }
+        payrollSummaryService.markStale();
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deletePayroll(@PathVariable Long id) {
         try {
-            Optional<Payroll> optionalPayroll = payrollRepository.findById(id);
-            
-            if (optionalPayroll.isPresent()) {
-                payrollRepository.delete(optionalPayroll.get());
+            // The row is read first so payroll.deleted carries it, like the other payroll events
+            int deleted = new TransactionTemplate(transactionManager).execute(status -> {
+                Optional<Payroll> previous = payrollRepository.findById(id);
+                if (previous.isEmpty()) {
+                    return 0;
+                }
+                int count = payrollRepository.removeById(id);
+                if (count > 0) {
+                    outboxWriter.append("payroll", id, "payroll.deleted", previous.get());
+                }
+                return count;
+            });
+
+            if (deleted > 0) {
+                payrollSummaryService.markStale();
                 return ResponseEntity.noContent().build();
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -0,0 +1,59 @@
+package com.example.hrms.payrollservice.controller;
+
+import com.example.hrms.payrollservice.dto.PayrollRunRequest;
+import com.example.hrms.payrollservice.entity.PayrollRun;
+import com.example.hrms.payrollservice.repository.PayrollRunRepository;
+import com.example.hrms.payrollservice.service.PayrollRunService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/payroll/runs")
+public class PayrollRunController {
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @GetMapping
+    public List<PayrollRun> getAllRuns() {
+        return payrollRunRepository.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PayrollRun> getRunById(@PathVariable Long id) {
+        Optional<PayrollRun> run = payrollRunRepository.findById(id);
+        return run.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> startRun(@RequestBody PayrollRunRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(payrollRunService.start(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<?> resumeRun(@PathVariable Long id) {
+        Optional<PayrollRun> optionalRun = payrollRunRepository.findById(id);
+        if (optionalRun.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body("Payroll run with id " + id + " not found");
+        }
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(payrollRunService.resume(optionalRun.get()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.hrms.payrollservice.dto;
+
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.example.hrms.payrollservice.entity.Payroll;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+public class EnrichedPayroll {
+    @JsonUnwrapped
+    private final Payroll payroll;
+    private final String employeeName;
+    private final String department;
+
+    public EnrichedPayroll(Payroll payroll, EmployeeRecord employee) {
+        this.payroll = payroll;
+        this.employeeName = employee == null ? null : employee.getName();
+        this.department = employee == null ? null : employee.getDepartment();
+    }
+
+    public Payroll getPayroll() { return payroll; }
+    public String getEmployeeName() { return employeeName; }
+    public String getDepartment() { return department; }
+}
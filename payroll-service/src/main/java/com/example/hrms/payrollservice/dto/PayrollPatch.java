@@ -0,0 +1,20 @@
+package com.example.hrms.payrollservice.dto;
+
+/** Body of PATCH /payroll/{id}: null fields are left unchanged. */
+public class PayrollPatch {
+    private Double basicPay;
+    private Double bonus;
+    private Double deductions;
+    private Double netSalary;
+
+    public PayrollPatch() {}
+
+    public Double getBasicPay() { return basicPay; }
+    public void setBasicPay(Double basicPay) { this.basicPay = basicPay; }
+    public Double getBonus() { return bonus; }
+    public void setBonus(Double bonus) { this.bonus = bonus; }
+    public Double getDeductions() { return deductions; }
+    public void setDeductions(Double deductions) { this.deductions = deductions; }
+    public Double getNetSalary() { return netSalary; }
+    public void setNetSalary(Double netSalary) { this.netSalary = netSalary; }
+}
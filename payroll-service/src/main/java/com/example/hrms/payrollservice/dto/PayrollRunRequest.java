@@ -0,0 +1,21 @@
+package com.example.hrms.payrollservice.dto;
+
+import java.time.LocalDate;
+
+public class PayrollRunRequest {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Double bonusRate;
+    private Boolean applyAttendance;
+
+    public PayrollRunRequest() {}
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+    public Double getBonusRate() { return bonusRate; }
+    public void setBonusRate(Double bonusRate) { this.bonusRate = bonusRate; }
+    public Boolean getApplyAttendance() { return applyAttendance; }
+    public void setApplyAttendance(Boolean applyAttendance) { this.applyAttendance = applyAttendance; }
+}
@@ -0,0 +1,33 @@
+package com.example.hrms.payrollservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class PayrollSummary {
+    private final long records;
+    private final double totalBasicPay;
+    private final double totalBonus;
+    private final double totalDeductions;
+    private final double totalNetSalary;
+    private final double averageNetSalary;
+    private final String eTag;
+
+    public PayrollSummary(long records, double totalBasicPay, double totalBonus, double totalDeductions,
+                          double totalNetSalary, String eTag) {
+        this.records = records;
+        this.totalBasicPay = totalBasicPay;
+        this.totalBonus = totalBonus;
+        this.totalDeductions = totalDeductions;
+        this.totalNetSalary = totalNetSalary;
+        this.averageNetSalary = records == 0 ? 0 : totalNetSalary / records;
+        this.eTag = eTag;
+    }
+
+    public long getRecords() { return records; }
+    public double getTotalBasicPay() { return totalBasicPay; }
+    public double getTotalBonus() { return totalBonus; }
+    public double getTotalDeductions() { return totalDeductions; }
+    public double getTotalNetSalary() { return totalNetSalary; }
+    public double getAverageNetSalary() { return averageNetSalary; }
+    @JsonIgnore
+    public String getETag() { return eTag; }
+}
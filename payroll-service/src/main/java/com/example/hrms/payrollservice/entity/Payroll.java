@@ -1,9 +1,10 @@
 package com.example.hrms.payrollservice.entity;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "payrolls")
+@Table(name = "payrolls", indexes = @Index(name = "idx_payroll_employee", columnList = "employeeId"))
 public class Payroll {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,6 +14,9 @@ public class Payroll {
     private Double bonus;
     private Double deductions;
     private Double netSalary;
+    private Long runId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
 
     public Payroll() {}
 
@@ -28,4 +32,10 @@ public class Payroll {
     public void setDeductions(Double deductions) { this.deductions = deductions; }
     public Double getNetSalary() { return netSalary; }
     public void setNetSalary(Double netSalary) { this.netSalary = netSalary; }
+    public Long getRunId() { return runId; }
+    public void setRunId(Long runId) { this.runId = runId; }
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
 }
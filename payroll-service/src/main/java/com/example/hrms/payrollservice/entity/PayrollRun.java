@@ -0,0 +1,58 @@
+package com.example.hrms.payrollservice.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payroll_runs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payroll_runs_active_period", columnNames = "activePeriod"))
+public class PayrollRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Double bonusRate;
+    private Boolean applyAttendance;
+    @Enumerated(EnumType.STRING)
+    private PayrollRunStatus status;
+    // Checkpoint: every employee with id <= lastEmployeeId has been written
+    private Long lastEmployeeId;
+    private Long processedEmployees;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    // "start/end" while the run is RUNNING or COMPLETED, null once FAILED: the unique key allows
+    // one live run per period even when two instances start it at the same moment
+    @JsonIgnore
+    private String activePeriod;
+
+    public PayrollRun() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+    public Double getBonusRate() { return bonusRate; }
+    public void setBonusRate(Double bonusRate) { this.bonusRate = bonusRate; }
+    public Boolean getApplyAttendance() { return applyAttendance; }
+    public void setApplyAttendance(Boolean applyAttendance) { this.applyAttendance = applyAttendance; }
+    public PayrollRunStatus getStatus() { return status; }
+    public void setStatus(PayrollRunStatus status) { this.status = status; }
+    public Long getLastEmployeeId() { return lastEmployeeId; }
+    public void setLastEmployeeId(Long lastEmployeeId) { this.lastEmployeeId = lastEmployeeId; }
+    public Long getProcessedEmployees() { return processedEmployees; }
+    public void setProcessedEmployees(Long processedEmployees) { this.processedEmployees = processedEmployees; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public String getActivePeriod() { return activePeriod; }
+    public void setActivePeriod(String activePeriod) { this.activePeriod = activePeriod; }
+}
@@ -0,0 +1,7 @@
+package com.example.hrms.payrollservice.entity;
+
+public enum PayrollRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
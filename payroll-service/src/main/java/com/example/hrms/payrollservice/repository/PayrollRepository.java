@@ -1,7 +1,48 @@
 package com.example.hrms.payrollservice.repository;
 
 import com.example.hrms.payrollservice.entity.Payroll;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface PayrollRepository extends JpaRepository<Payroll, Long> {
+
+    // Keyset page: rows strictly after the given id, seeking on the primary key index
+    List<Payroll> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Forward-only cursor for full exports; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Payroll> streamAllByOrderByIdAsc();
+
+    @Query("select count(p) as records, sum(p.basicPay) as totalBasicPay, sum(p.bonus) as totalBonus, "
+            + "sum(p.deductions) as totalDeductions, sum(p.netSalary) as totalNetSalary from Payroll p")
+    PayrollTotals summarize();
+
+    // One set-based delete for the employee.deleted clean-up; uses idx_payroll_employee
+    @Modifying
+    @Query("delete from Payroll p where p.employeeId = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Partial update in one statement: null arguments keep the column
+    @Modifying
+    @Query("update Payroll p set p.basicPay = coalesce(:basicPay, p.basicPay), p.bonus = coalesce(:bonus, p.bonus), "
+            + "p.deductions = coalesce(:deductions, p.deductions), p.netSalary = coalesce(:netSalary, p.netSalary) "
+            + "where p.id = :id")
+    int patch(@Param("id") Long id, @Param("basicPay") Double basicPay, @Param("bonus") Double bonus,
+              @Param("deductions") Double deductions, @Param("netSalary") Double netSalary);
+
+    @Modifying
+    @Query("delete from Payroll p where p.id = :id")
+    int removeById(@Param("id") Long id);
 }
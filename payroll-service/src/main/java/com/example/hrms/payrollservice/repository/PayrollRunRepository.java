@@ -0,0 +1,17 @@
+package com.example.hrms.payrollservice.repository;
+
+import com.example.hrms.payrollservice.entity.PayrollRun;
+import com.example.hrms.payrollservice.entity.PayrollRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    List<PayrollRun> findByStatus(PayrollRunStatus status);
+
+    boolean existsByPeriodStartAndPeriodEndAndStatusIn(LocalDate periodStart, LocalDate periodEnd,
+                                                        Collection<PayrollRunStatus> statuses);
+}
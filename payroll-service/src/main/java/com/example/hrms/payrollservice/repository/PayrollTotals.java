@@ -0,0 +1,9 @@
+package com.example.hrms.payrollservice.repository;
+
+public interface PayrollTotals {
+    Long getRecords();
+    Double getTotalBasicPay();
+    Double getTotalBonus();
+    Double getTotalDeductions();
+    Double getTotalNetSalary();
+}
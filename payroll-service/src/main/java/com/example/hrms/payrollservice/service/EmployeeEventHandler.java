@@ -0,0 +1,79 @@
+package com.example.hrms.payrollservice.service;
+
+import com.example.hrms.employeeclient.EmployeeDirectory;
+import com.example.hrms.events.DomainEvent;
+import com.example.hrms.events.EventBroker;
+import com.example.hrms.events.OutboxWriter;
+import com.example.hrms.payrollservice.repository.PayrollRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Reacts to employee-service changes pushed through the outbox relay: evicts stale
+ * enrichment entries and removes payroll rows of deleted employees. Redelivery is harmless
+ * because both actions are idempotent.
+ */
+@Component
+public class EmployeeEventHandler {
+    private static final Logger log = LoggerFactory.getLogger(EmployeeEventHandler.class);
+
+    @Autowired
+    private EventBroker eventBroker;
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private PayrollSummaryService payrollSummaryService;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void subscribe() {
+        eventBroker.subscribe("employee.updated", event -> employeeDirectory.invalidate(employeeId(event)));
+        eventBroker.subscribe("employee.salary-raised", this::onSalaryRaised);
+        eventBroker.subscribe("employee.deleted", this::onEmployeeDeleted);
+    }
+
+    private void onEmployeeDeleted(DomainEvent event) {
+        Long employeeId = employeeId(event);
+        employeeDirectory.invalidate(employeeId);
+        int deleted = new TransactionTemplate(transactionManager).execute(status -> {
+            int count = payrollRepository.deleteByEmployeeId(employeeId);
+            if (count > 0) {
+                outboxWriter.append("payroll", employeeId, "payroll.employee-purged", Map.of("employeeId", employeeId, "deleted", count));
+            }
+            return count;
+        });
+        if (deleted > 0) {
+            payrollSummaryService.rebuild();
+            log.info("Removed {} payroll record(s) of deleted employee {}", deleted, employeeId);
+        }
+    }
+
+    // One event per department raise; it carries every updated employee row
+    private void onSalaryRaised(DomainEvent event) {
+        for (JsonNode employee : event.getPayload().path("employees")) {
+            employeeDirectory.invalidate(employee.path("id").asLong());
+        }
+    }
+
+    private static Long employeeId(DomainEvent event) {
+        return Long.valueOf(event.getAggregateId());
+    }
+}
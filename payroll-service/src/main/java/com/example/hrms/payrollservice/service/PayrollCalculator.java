@@ -0,0 +1,75 @@
+package com.example.hrms.payrollservice.service;
+
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.example.hrms.payrollservice.entity.Payroll;
+import com.example.hrms.payrollservice.entity.PayrollRun;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+@Component
+public class PayrollCalculator {
+
+    /**
+     * Basic pay is the employee's monthly salary times {@code salaryMonths}, the share of
+     * months the period covers. When attendance applies, absent working days are deducted
+     * pro rata; the bonus is a flat rate on basic pay.
+     */
+    public Payroll calculate(EmployeeRecord employee, PayrollRun run, long workingDays, double salaryMonths,
+                             long daysPresent) {
+        double basicPay = (employee.getSalary() == null ? 0 : employee.getSalary()) * salaryMonths;
+        double bonus = basicPay * (run.getBonusRate() == null ? 0 : run.getBonusRate());
+        double deductions = 0;
+        if (Boolean.TRUE.equals(run.getApplyAttendance()) && workingDays > 0) {
+            long absentDays = Math.max(workingDays - Math.min(daysPresent, workingDays), 0);
+            deductions = basicPay * absentDays / workingDays;
+        }
+
+        Payroll payroll = new Payroll();
+        payroll.setEmployeeId(employee.getId());
+        payroll.setBasicPay(round(basicPay));
+        payroll.setBonus(round(bonus));
+        payroll.setDeductions(round(deductions));
+        payroll.setNetSalary(round(basicPay + bonus - deductions));
+        payroll.setRunId(run.getId());
+        payroll.setPeriodStart(run.getPeriodStart());
+        payroll.setPeriodEnd(run.getPeriodEnd());
+        return payroll;
+    }
+
+    /**
+     * How many months of salary the period is worth: each calendar month it touches counts as
+     * its working days inside the period over its working days in total, so a whole month is
+     * 1, the 1st to the 15th about half, and January to March 3.
+     */
+    public double salaryMonths(LocalDate start, LocalDate end) {
+        double months = 0;
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+            LocalDate first = month.atDay(1);
+            LocalDate last = month.atEndOfMonth();
+            long inMonth = workingDays(first, last);
+            if (inMonth > 0) {
+                months += (double) workingDays(start.isAfter(first) ? start : first, end.isBefore(last) ? end : last) / inMonth;
+            }
+        }
+        return months;
+    }
+
+    /** Monday to Friday, both ends inclusive. */
+    public long workingDays(LocalDate start, LocalDate end) {
+        long days = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            DayOfWeek day = date.getDayOfWeek();
+            if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    private static double round(double amount) {
+        return Math.round(amount * 100) / 100.0;
+    }
+}
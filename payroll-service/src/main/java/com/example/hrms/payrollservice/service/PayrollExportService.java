@@ -0,0 +1,152 @@
+package com.example.hrms.payrollservice.service;
+
+import com.example.hrms.employeeclient.EmployeeDirectory;
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.example.hrms.export.TabularWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes payslip rows straight from a forward-only JDBC cursor to a {@link TabularWriter}.
+ * Rows are enriched with employee name and department one chunk at a time, so memory is
+ * bounded by the chunk size rather than by the number of rows exported.
+ */
+@Service
+public class PayrollExportService {
+    public static final List<String> COLUMNS = List.of("id", "employee_id", "name", "department", "period_start",
+            "period_end", "basic_pay", "bonus", "deductions", "net_salary", "run_id");
+
+    // Department filters up to this many employees are pushed into SQL; larger ones are applied in-stream
+    private static final int MAX_SQL_IN = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Value("${hrms.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${hrms.export.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * @param employeeIds restricts the export to these employees (a department filter); null exports everyone
+     * @return the number of rows written
+     */
+    public long export(LocalDate periodStart, LocalDate periodEnd, Long employeeId, Set<Long> employeeIds,
+                       TabularWriter writer) throws IOException {
+        // Commits the response before the query runs, so proxies see bytes well inside their timeouts
+        writer.header(COLUMNS);
+        writer.flush();
+        if (employeeIds != null && employeeIds.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT id, employee_id, period_start, period_end, basic_pay, bonus, "
+                + "deductions, net_salary, run_id FROM payrolls WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        // Overlap, so a payslip straddling either boundary is still included
+        if (periodStart != null) {
+            sql.append(" AND period_end >= ?");
+            args.add(Date.valueOf(periodStart));
+        }
+        if (periodEnd != null) {
+            sql.append(" AND period_start <= ?");
+            args.add(Date.valueOf(periodEnd));
+        }
+        if (employeeId != null) {
+            sql.append(" AND employee_id = ?");
+            args.add(employeeId);
+        }
+        boolean filterInStream = employeeIds != null && employeeIds.size() > MAX_SQL_IN;
+        if (employeeIds != null && !filterInStream) {
+            sql.append(" AND employee_id IN (").append("?,".repeat(employeeIds.size() - 1)).append("?)");
+            args.addAll(employeeIds);
+        }
+        sql.append(" ORDER BY id");
+
+        List<Object[]> chunk = new ArrayList<>(chunkSize);
+        long[] written = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement;
+            }, (ResultSet rs) -> {
+                long rowEmployeeId = rs.getLong("employee_id");
+                if (filterInStream && !employeeIds.contains(rowEmployeeId)) {
+                    return;
+                }
+                chunk.add(new Object[] {
+                        rs.getLong("id"), rowEmployeeId, null, null,
+                        localDate(rs.getDate("period_start")), localDate(rs.getDate("period_end")),
+                        rs.getObject("basic_pay"), rs.getObject("bonus"), rs.getObject("deductions"),
+                        rs.getObject("net_salary"), rs.getObject("run_id")
+                });
+                if (chunk.size() == chunkSize) {
+                    written[0] += writeChunk(chunk, writer);
+                }
+            });
+            written[0] += writeChunk(chunk, writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written[0];
+    }
+
+    private long writeChunk(List<Object[]> chunk, TabularWriter writer) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Long, EmployeeRecord> employees = employeeDirectory.resolve(employeeIdsOf(chunk));
+        try {
+            for (Object[] row : chunk) {
+                EmployeeRecord employee = employees.get((Long) row[1]);
+                if (employee != null) {
+                    row[2] = employee.getName();
+                    row[3] = employee.getDepartment();
+                }
+                writer.row(row);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // Usually the client went away; abandon the cursor instead of reading the rest of the table
+            throw new UncheckedIOException(e);
+        }
+        int size = chunk.size();
+        chunk.clear();
+        return size;
+    }
+
+    private static Collection<Long> employeeIdsOf(List<Object[]> chunk) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Object[] row : chunk) {
+            ids.add((Long) row[1]);
+        }
+        return ids;
+    }
+
+    private static LocalDate localDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
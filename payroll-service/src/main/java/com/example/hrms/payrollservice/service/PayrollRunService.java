@@ -0,0 +1,233 @@
+package com.example.hrms.payrollservice.service;
+
+import com.example.hrms.employeeclient.EmployeeClient;
+import com.example.hrms.employeeclient.EmployeeRecord;
+import com.example.hrms.payrollservice.client.AttendanceClient;
+import com.example.hrms.payrollservice.dto.PayrollRunRequest;
+import com.example.hrms.payrollservice.entity.Payroll;
+import com.example.hrms.payrollservice.entity.PayrollRun;
+import com.example.hrms.payrollservice.entity.PayrollRunStatus;
+import com.example.hrms.payrollservice.repository.PayrollRunRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes payroll for every employee in a pay period. Employees are pulled from
+ * employee-service in keyset pages; each page is computed on a fork-join pool and
+ * written as one JDBC batch in the same transaction as the run's checkpoint, so a
+ * crashed run resumes after the last fully written page.
+ */
+@Service
+public class PayrollRunService {
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunService.class);
+
+    private static final String INSERT_SQL = "insert into payrolls "
+            + "(employee_id, basic_pay, bonus, deductions, net_salary, run_id, period_start, period_end) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CHECKPOINT_SQL =
+            "update payroll_runs set last_employee_id = ?, processed_employees = processed_employees + ? where id = ?";
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private AttendanceClient attendanceClient;
+
+    @Autowired
+    private PayrollCalculator payrollCalculator;
+
+    @Autowired
+    private PayrollSummaryService payrollSummaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${hrms.payroll.run.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${hrms.payroll.run.parallelism:0}")
+    private int parallelism;
+
+    @Value("${hrms.payroll.run.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    private final Set<Long> activeRuns = ConcurrentHashMap.newKeySet();
+    private ExecutorService coordinator;
+    private ForkJoinPool workers;
+
+    @PostConstruct
+    public void init() {
+        coordinator = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "payroll-run"));
+        workers = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        for (PayrollRun run : payrollRunRepository.findByStatus(PayrollRunStatus.RUNNING)) {
+            log.info("Resuming payroll run {} after employee {}", run.getId(), run.getLastEmployeeId());
+            submit(run.getId());
+        }
+    }
+
+    public PayrollRun start(PayrollRunRequest request) {
+        if (request.getPeriodStart() == null || request.getPeriodEnd() == null) {
+            throw new IllegalArgumentException("periodStart and periodEnd are required");
+        }
+        if (request.getPeriodEnd().isBefore(request.getPeriodStart())) {
+            throw new IllegalArgumentException("periodEnd is before periodStart");
+        }
+        if (payrollRunRepository.existsByPeriodStartAndPeriodEndAndStatusIn(request.getPeriodStart(),
+                request.getPeriodEnd(), List.of(PayrollRunStatus.RUNNING, PayrollRunStatus.COMPLETED))) {
+            throw periodTaken();
+        }
+
+        PayrollRun run = new PayrollRun();
+        run.setPeriodStart(request.getPeriodStart());
+        run.setPeriodEnd(request.getPeriodEnd());
+        run.setBonusRate(request.getBonusRate() == null ? 0 : request.getBonusRate());
+        run.setApplyAttendance(request.getApplyAttendance() == null || request.getApplyAttendance());
+        run.setStatus(PayrollRunStatus.RUNNING);
+        run.setLastEmployeeId(0L);
+        run.setProcessedEmployees(0L);
+        run.setStartedAt(LocalDateTime.now());
+        run.setActivePeriod(activePeriod(run));
+        PayrollRun savedRun = saveClaimingPeriod(run);
+        submit(savedRun.getId());
+        return savedRun;
+    }
+
+    public PayrollRun resume(PayrollRun run) {
+        if (run.getStatus() == PayrollRunStatus.COMPLETED) {
+            throw new IllegalStateException("Payroll run " + run.getId() + " is already completed");
+        }
+        if (activeRuns.contains(run.getId())) {
+            throw new IllegalStateException("Payroll run " + run.getId() + " is already running");
+        }
+        run.setStatus(PayrollRunStatus.RUNNING);
+        run.setFinishedAt(null);
+        run.setError(null);
+        run.setActivePeriod(activePeriod(run));
+        PayrollRun savedRun = saveClaimingPeriod(run);
+        submit(savedRun.getId());
+        return savedRun;
+    }
+
+    // The exists check above is only a fast path; the unique key decides between concurrent starts
+    private PayrollRun saveClaimingPeriod(PayrollRun run) {
+        try {
+            return payrollRunRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException e) {
+            throw periodTaken();
+        }
+    }
+
+    private static String activePeriod(PayrollRun run) {
+        return run.getPeriodStart() + "/" + run.getPeriodEnd();
+    }
+
+    private static IllegalStateException periodTaken() {
+        return new IllegalStateException("A payroll run for this period is already running or completed");
+    }
+
+    private void submit(Long runId) {
+        if (activeRuns.add(runId)) {
+            coordinator.submit(() -> execute(runId));
+        }
+    }
+
+    private void execute(Long runId) {
+        try {
+            PayrollRun run = payrollRunRepository.findById(runId).orElseThrow();
+            long workingDays = payrollCalculator.workingDays(run.getPeriodStart(), run.getPeriodEnd());
+            double salaryMonths = payrollCalculator.salaryMonths(run.getPeriodStart(), run.getPeriodEnd());
+            Map<Long, Long> daysPresent = Boolean.TRUE.equals(run.getApplyAttendance())
+                    ? attendanceClient.fetchDaysPresent(run.getPeriodStart(), run.getPeriodEnd())
+                    : Map.of();
+
+            long after = run.getLastEmployeeId() == null ? 0 : run.getLastEmployeeId();
+            List<EmployeeRecord> page = employeeClient.fetchPage(after, chunkSize);
+            while (!page.isEmpty()) {
+                List<EmployeeRecord> employees = page;
+                List<Payroll> payrolls = workers.submit(() -> employees.parallelStream()
+                        .map(employee -> payrollCalculator.calculate(employee, run, workingDays, salaryMonths,
+                                daysPresent.getOrDefault(employee.getId(), 0L)))
+                        .toList()).get();
+                after = employees.get(employees.size() - 1).getId();
+                write(runId, payrolls, after);
+                page = employeeClient.fetchPage(after, chunkSize);
+            }
+            finish(runId, PayrollRunStatus.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("Payroll run {} failed", runId, e);
+            finish(runId, PayrollRunStatus.FAILED, e.getMessage());
+        } finally {
+            activeRuns.remove(runId);
+            payrollSummaryService.rebuild();
+        }
+    }
+
+    private void write(Long runId, List<Payroll> payrolls, long lastEmployeeId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, payrolls, payrolls.size(), (ps, payroll) -> {
+                ps.setLong(1, payroll.getEmployeeId());
+                ps.setDouble(2, payroll.getBasicPay());
+                ps.setDouble(3, payroll.getBonus());
+                ps.setDouble(4, payroll.getDeductions());
+                ps.setDouble(5, payroll.getNetSalary());
+                ps.setLong(6, payroll.getRunId());
+                ps.setDate(7, Date.valueOf(payroll.getPeriodStart()));
+                ps.setDate(8, Date.valueOf(payroll.getPeriodEnd()));
+            });
+            jdbcTemplate.update(CHECKPOINT_SQL, lastEmployeeId, payrolls.size(), runId);
+        });
+    }
+
+    private void finish(Long runId, PayrollRunStatus status, String error) {
+        payrollRunRepository.findById(runId).ifPresent(run -> {
+            run.setStatus(status);
+            run.setFinishedAt(LocalDateTime.now());
+            // A failed run releases its period so a new run (or its own resume) can claim it
+            if (status == PayrollRunStatus.FAILED) {
+                run.setActivePeriod(null);
+            }
+            run.setError(error == null || error.length() <= 255 ? error : error.substring(0, 255));
+            payrollRunRepository.save(run);
+        });
+    }
+}
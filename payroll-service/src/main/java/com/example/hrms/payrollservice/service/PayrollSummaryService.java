@@ -0,0 +1,98 @@
+package com.example.hrms.payrollservice.service;
+
+import com.example.hrms.payrollservice.dto.PayrollSummary;
+import com.example.hrms.payrollservice.entity.Payroll;
+import com.example.hrms.payrollservice.repository.PayrollRepository;
+import com.example.hrms.payrollservice.repository.PayrollTotals;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps dashboard payroll totals in memory. Seeded with one aggregate query on
+ * startup and then adjusted by the controller on every write.
+ */
+@Service
+public class PayrollSummaryService {
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    // Distinguishes versions across restarts so a stale If-None-Match never matches
+    private final String bootId = Long.toHexString(System.currentTimeMillis());
+    private long records;
+    private double totalBasicPay;
+    private double totalBonus;
+    private double totalDeductions;
+    private double totalNetSalary;
+    private long version;
+    private volatile PayrollSummary snapshot;
+    // Set by single-statement writes that never see the row's old amounts
+    private volatile boolean stale;
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        stale = false;
+        PayrollTotals totals = payrollRepository.summarize();
+        records = totals.getRecords() == null ? 0 : totals.getRecords();
+        totalBasicPay = valueOf(totals.getTotalBasicPay());
+        totalBonus = valueOf(totals.getTotalBonus());
+        totalDeductions = valueOf(totals.getTotalDeductions());
+        totalNetSalary = valueOf(totals.getTotalNetSalary());
+        publish();
+    }
+
+    public PayrollSummary getSummary() {
+        if (stale) {
+            refreshIfStale();
+        }
+        return snapshot;
+    }
+
+    /** Totals are recomputed with one aggregate query on the next read, however many writes came first. */
+    public void markStale() {
+        stale = true;
+    }
+
+    private synchronized void refreshIfStale() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    public synchronized void onCreated(Payroll payroll) {
+        records++;
+        add(payroll.getBasicPay(), payroll.getBonus(), payroll.getDeductions(), payroll.getNetSalary(), 1);
+        publish();
+    }
+
+    public synchronized void onUpdated(Double previousBasicPay, Double previousBonus, Double previousDeductions,
+                                       Double previousNetSalary, Payroll payroll) {
+        add(previousBasicPay, previousBonus, previousDeductions, previousNetSalary, -1);
+        add(payroll.getBasicPay(), payroll.getBonus(), payroll.getDeductions(), payroll.getNetSalary(), 1);
+        publish();
+    }
+
+    public synchronized void onDeleted(Payroll payroll) {
+        records--;
+        add(payroll.getBasicPay(), payroll.getBonus(), payroll.getDeductions(), payroll.getNetSalary(), -1);
+        publish();
+    }
+
+    private void add(Double basicPay, Double bonus, Double deductions, Double netSalary, int sign) {
+        totalBasicPay += sign * valueOf(basicPay);
+        totalBonus += sign * valueOf(bonus);
+        totalDeductions += sign * valueOf(deductions);
+        totalNetSalary += sign * valueOf(netSalary);
+    }
+
+    private void publish() {
+        version++;
+        snapshot = new PayrollSummary(records, totalBasicPay, totalBonus, totalDeductions, totalNetSalary,
+                "\"" + bootId + "-" + version + "\"");
+    }
+
+    private static double valueOf(Double value) {
+        return value == null ? 0 : value;
+    }
+}
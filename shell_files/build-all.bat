@@ -15,6 +15,12 @@ cd ..
 echo Frontend built successfully!
 echo.
 
+REM Install the parent POM and the shared instrumentation, events, datasource and export modules the services depend on
+echo Installing shared modules...
+call mvn install -pl hrms-instrumentation,hrms-events,hrms-datasource,hrms-export,hrms-employee-client -am -DskipTests
+echo Shared modules installed!
+echo.
+
 REM Build Config Server
 echo Building Config Server...
 cd config-server
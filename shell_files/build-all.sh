@@ -2,9 +2,22 @@
 
 # Build script for all Docker images
 # This script builds all Docker images for the HR Management System
+#
+# Usage: ./build-all.sh [fast-start|native]
+#   (none)      plain JVM images tagged :latest
+#   fast-start  AOT-processed jars with an AppCDS archive, tagged :fast-start
+#   native      GraalVM native api-gateway only, tagged :native (needs GraalVM as the JDK)
 
 set -e
 
+MODE=${1:-latest}
+case "$MODE" in
+    latest)     MAVEN_PROFILE="";            DOCKERFILE="Dockerfile" ;;
+    fast-start) MAVEN_PROFILE="-Pfast-start"; DOCKERFILE="Dockerfile.fast-start" ;;
+    native)     MAVEN_PROFILE="-Pnative";     DOCKERFILE="Dockerfile.native" ;;
+    *) echo "Unknown mode: $MODE (expected fast-start or native)"; exit 1 ;;
+esac
+
 echo "=========================================="
 echo "Building HR Management System Docker Images"
 echo "=========================================="
@@ -24,11 +37,11 @@ build_service() {
     
     # Build Maven project first
     echo "Building Maven project..."
-    mvn clean package -DskipTests
+    mvn clean package -DskipTests $MAVEN_PROFILE
     
     # Build Docker image
     echo "Building Docker image..."
-    docker build -t "$service_name:latest" .
+    docker build -f "$DOCKERFILE" -t "$service_name:$MODE" .
     
     cd ..
     echo -e "${GREEN}✓ $service_name built successfully${NC}"
@@ -36,38 +49,51 @@ build_service() {
 }
 
 # Build Frontend
-echo -e "${YELLOW}Building Frontend...${NC}"
-cd frontend
-docker build --build-arg REACT_APP_API_BASE_URL=http://api-gateway:8080 -t frontend:latest .
-cd ..
-echo -e "${GREEN}✓ Frontend built successfully${NC}"
+if [ "$MODE" = "latest" ]; then
+    echo -e "${YELLOW}Building Frontend...${NC}"
+    cd frontend
+    docker build --build-arg REACT_APP_API_BASE_URL=http://api-gateway:8080 -t frontend:latest .
+    cd ..
+    echo -e "${GREEN}✓ Frontend built successfully${NC}"
+    echo ""
+fi
+
+# Install the parent POM and the shared instrumentation, events, datasource and export modules the services depend on
+echo -e "${YELLOW}Installing shared modules...${NC}"
+mvn install -pl hrms-instrumentation,hrms-events,hrms-datasource,hrms-export,hrms-employee-client -am -DskipTests
+echo -e "${GREEN}✓ Shared modules installed${NC}"
 echo ""
 
-# Build Config Server
-build_service "config-server" "config-server"
+if [ "$MODE" = "native" ]; then
+    # Only the gateway has a native-image build
+    build_service "api-gateway" "api-gateway"
+else
+    # Build Config Server
+    build_service "config-server" "config-server"
 
-# Build Eureka Server
-build_service "eureka-server" "eureka-server"
+    # Build Eureka Server
+    build_service "eureka-server" "eureka-server"
 
-# Build API Gateway
-build_service "api-gateway" "api-gateway"
+    # Build API Gateway
+    build_service "api-gateway" "api-gateway"
 
-# Build User Service
-build_service "user-service" "user-service"
+    # Build User Service
+    build_service "user-service" "user-service"
 
-# Build Employee Service
-build_service "employee-service" "employee-service"
+    # Build Employee Service
+    build_service "employee-service" "employee-service"
 
-# Build Payroll Service
-build_service "payroll-service" "payroll-service"
+    # Build Payroll Service
+    build_service "payroll-service" "payroll-service"
 
-# Build Attendance Service
-build_service "attendance-service" "attendance-service"
+    # Build Attendance Service
+    build_service "attendance-service" "attendance-service"
+fi
 
 echo "=========================================="
 echo -e "${GREEN}All images built successfully!${NC}"
 echo "=========================================="
 echo ""
 echo "Images built:"
-docker images | grep -E "(frontend|config-server|eureka-server|api-gateway|user-service|employee-service|payroll-service|attendance-service)" | grep latest
+docker images | grep -E "(frontend|config-server|eureka-server|api-gateway|user-service|employee-service|payroll-service|attendance-service)" | grep "$MODE"
 
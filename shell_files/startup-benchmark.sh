@@ -0,0 +1,84 @@
+#!/bin/bash
+
+# Startup benchmark: time-to-ready and resident memory of every Spring Boot module,
+# once per image mode that has been built (see build-all.sh):
+#   latest      plain JVM images
+#   fast-start  AOT-processed jars with an AppCDS archive
+#   native      GraalVM native executable (api-gateway only)
+#
+# Each service container is recreated on its own against the running databases, and the
+# clock runs from "docker compose up" until /actuator/health reports UP. RSS is read from
+# the container's main process once it is ready.
+#
+# Usage: ./startup-benchmark.sh [runs-per-service]   (results in startup-benchmark.csv)
+
+set -e
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-3}
+OUT=${OUT:-startup-benchmark.csv}
+TIMEOUT_MS=${TIMEOUT_MS:-180000}
+MODES="latest fast-start native"
+# Infrastructure first: the services report healthier and start more realistically with Eureka up
+SERVICES="config-server:8888 eureka-server:8761 api-gateway:8080 user-service:8101 employee-service:8102 payroll-service:8103 attendance-service:8104"
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure() {
+    local mode=$1 service=$2 port=$3 run=$4
+
+    local start
+    start=$(now_ms)
+    HRMS_IMAGE_TAG=$mode docker compose up -d --no-deps --no-build --force-recreate "$service" > /dev/null 2>&1
+    until curl -fs "http://localhost:$port/actuator/health" 2> /dev/null | grep -q '"status":"UP"'; do
+        if (( $(now_ms) - start > TIMEOUT_MS )); then
+            echo "$mode,$service,$run,timeout," >> "$OUT"
+            echo "  $service ($mode) not ready after ${TIMEOUT_MS} ms"
+            return
+        fi
+        sleep 0.1
+    done
+    local ready_ms=$(( $(now_ms) - start ))
+
+    local rss_kb
+    rss_kb=$(docker exec "$service" sh -c 'grep VmRSS /proc/1/status' | awk '{print $2}')
+    echo "$mode,$service,$run,$ready_ms,$(( rss_kb / 1024 ))" >> "$OUT"
+    echo "  $service ($mode) run $run: ready in ${ready_ms} ms, RSS $(( rss_kb / 1024 )) MB"
+}
+
+echo "mode,service,run,ready_ms,rss_mb" > "$OUT"
+
+echo "Starting databases..."
+docker compose up -d userdb employeedb payrolldb attendancedb > /dev/null 2>&1
+
+for mode in $MODES; do
+    echo "Mode: $mode"
+    for entry in $SERVICES; do
+        service=${entry%%:*}
+        port=${entry##*:}
+        if ! docker image inspect "$service:$mode" > /dev/null 2>&1; then
+            echo "  $service:$mode not built, skipping"
+            continue
+        fi
+        for run in $(seq 1 "$RUNS"); do
+            measure "$mode" "$service" "$port" "$run"
+        done
+    done
+done
+
+echo ""
+echo "Mean per service and mode:"
+printf "%-12s %-20s %10s %8s\n" "mode" "service" "ready_ms" "rss_mb"
+awk -F, 'NR > 1 && $4 != "timeout" {
+    key = $1 "," $2; ready[key] += $4; rss[key] += $5; runs[key]++
+} END {
+    for (key in runs) {
+        split(key, part, ",")
+        printf "%-12s %-20s %10d %8d\n", part[1], part[2], ready[key] / runs[key], rss[key] / runs[key]
+    }
+}' "$OUT" | sort
+echo ""
+echo "Raw results: $OUT"
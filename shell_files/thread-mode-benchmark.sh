@@ -0,0 +1,45 @@
+#!/bin/bash
+
+# Platform vs virtual threads: runs the gateway load suite (hrms-benchmarks) twice against
+# the embedded H2 cluster, once with the services on Tomcat's platform thread pool and once
+# with the virtual-threads profile, then prints requests/sec and p99 side by side.
+#
+# Needs the benchmark build first: mvn -Pbenchmarks package -DskipTests
+#
+# Usage: ./thread-mode-benchmark.sh [extra -Dbench.* options]   (results in thread-mode-benchmark.csv)
+
+set -e
+
+cd "$(dirname "$0")/.."
+
+OUT=${OUT:-thread-mode-benchmark.csv}
+JAR=hrms-benchmarks/target/benchmarks.jar
+
+if [ ! -f "$JAR" ]; then
+    echo "$JAR not found; build it with: mvn -Pbenchmarks package -DskipTests"
+    exit 1
+fi
+
+rm -f "$OUT"
+for mode in platform virtual-threads; do
+    profiles=""
+    if [ "$mode" = "virtual-threads" ]; then
+        profiles=virtual-threads
+    fi
+    echo "Mode: $mode"
+    java -Dbench.label="$mode" -Dbench.service-profiles="$profiles" -Dbench.report="$OUT" "$@" \
+        -cp "$JAR" com.example.hrms.benchmarks.load.LoadSuite
+done
+
+echo ""
+echo "Platform vs virtual threads:"
+printf "%-20s %-34s %12s %12s %12s %12s\n" "workload" "request" "req/s plat" "req/s virt" "p99 plat" "p99 virt"
+awk -F, 'NR > 1 && $2 != "seed" {
+    key = $2 "," $3; rps[key, $1] = $6; p99[key, $1] = $9; keys[key] = 1
+} END {
+    for (key in keys) {
+        split(key, part, ",")
+        printf "%-20s %-34s %12s %12s %12s %12s\n", part[1], part[2],
+            rps[key, "platform"], rps[key, "virtual-threads"], p99[key, "platform"], p99[key, "virtual-threads"]
+    }
+}' "$OUT" | sort
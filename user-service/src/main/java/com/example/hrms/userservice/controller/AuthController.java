@@ -0,0 +1,54 @@
+package com.example.hrms.userservice.controller;
+
+import com.example.hrms.userservice.dto.LoginRequest;
+import com.example.hrms.userservice.dto.LoginResponse;
+import com.example.hrms.userservice.entity.User;
+import com.example.hrms.userservice.repository.UserRepository;
+import com.example.hrms.userservice.service.PasswordService;
+import com.example.hrms.userservice.service.TokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @PostMapping("/login")
+    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+        if (request.getEmail() == null || request.getPassword() == null) {
+            return ResponseEntity.badRequest().body("Email and password are required");
+        }
+
+        Optional<User> optionalUser = userRepository.findByEmail(request.getEmail().trim());
+        if (optionalUser.isEmpty()) {
+            passwordService.burnMatch(request.getPassword());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+        }
+
+        User user = optionalUser.get();
+        if (!passwordService.matches(request.getPassword(), user.getPassword())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+        }
+        if (passwordService.needsRehash(user.getPassword())) {
+            user.setPassword(passwordService.hash(request.getPassword()));
+            userRepository.save(user);
+        }
+
+        Instant now = Instant.now();
+        String token = tokenService.issue(user, now);
+        return ResponseEntity.ok(new LoginResponse(token, tokenService.expiryFrom(now), user.getId(), user.getName(), user.getRole()));
+    }
+}
@@ -1,14 +1,29 @@
 package com.example.hrms.userservice.controller;
 
+import com.example.hrms.userservice.dto.UserPatch;
 import com.example.hrms.userservice.entity.User;
 import com.example.hrms.userservice.repository.UserRepository;
+import com.example.hrms.userservice.service.PasswordService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/users")
@@ -16,9 +31,61 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hrms.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${hrms.pagination.max-size:1000}")
+    private int maxPageSize;
+
     @GetMapping
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    // Read-only, so the page is served by a read replica when one is configured
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<User>> getAllUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(userRepository.findAll());
+        }
+
+        int pageSize = Math.min(size == null ? defaultPageSize : Math.max(size, 1), maxPageSize);
+        List<User> page = userRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        // A full page means there may be more rows; hand back the last id as the cursor for the next call
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    @Transactional(readOnly = true)
+    public void streamUsers(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        ObjectWriter writer = objectMapper.writer();
+        OutputStream out = response.getOutputStream();
+
+        try (Stream<User> users = userRepository.streamAllByOrderByIdAsc()) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User row = iterator.next();
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+                // Detach so the persistence context does not grow with the export
+                entityManager.detach(row);
+            }
+        }
+        out.flush();
     }
 
     @GetMapping("/{id}")
@@ -29,6 +96,9 @@ public class UserController {
 
     @PostMapping
     public User createUser(@RequestBody User user) {
+        if (user.getPassword() != null) {
+            user.setPassword(passwordService.hash(user.getPassword()));
+        }
         return userRepository.save(user);
     }
 
@@ -50,7 +120,7 @@ public class UserController {
                     user.setRole(updatedUser.getRole());
                 }
                 if (updatedUser.getPassword() != null) {
-                    user.setPassword(updatedUser.getPassword());
+                    user.setPassword(passwordService.hash(updatedUser.getPassword()));
                 }
                 
                 User savedUser = userRepository.save(user);
@@ -65,13 +135,36 @@ public class UserController {
         }
     }
 
+    /**
+     * Partial update as one UPDATE statement, without loading the row first. Sending the version
+     * from a previous read turns it into an optimistic-lock check (409 if someone else wrote first).
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchUser(@PathVariable Long id, @RequestBody UserPatch patch) {
+        String passwordHash = patch.getPassword() == null ? null : passwordService.hash(patch.getPassword());
+        int updated;
+        try {
+            updated = userRepository.patch(id, patch.getName(), patch.getEmail(), patch.getRole(), passwordHash,
+                patch.getVersion());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Email " + patch.getEmail() + " is already in use");
+        }
+        if (updated > 0) {
+            return ResponseEntity.noContent().build();
+        }
+        if (patch.getVersion() != null && userRepository.existsById(id)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("User with id " + id + " was modified since version " + patch.getVersion());
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body("User with id " + id + " not found");
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteUser(@PathVariable Long id) {
         try {
-            Optional<User> optionalUser = userRepository.findById(id);
-            
-            if (optionalUser.isPresent()) {
-                userRepository.delete(optionalUser.get());
+            if (userRepository.removeById(id) > 0) {
                 return ResponseEntity.noContent().build();
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -0,0 +1,25 @@
+package com.example.hrms.userservice.dto;
+
+import java.time.Instant;
+
+public class LoginResponse {
+    private final String token;
+    private final Instant expiresAt;
+    private final Long userId;
+    private final String name;
+    private final String role;
+
+    public LoginResponse(String token, Instant expiresAt, Long userId, String name, String role) {
+        this.token = token;
+        this.expiresAt = expiresAt;
+        this.userId = userId;
+        this.name = name;
+        this.role = role;
+    }
+
+    public String getToken() { return token; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public Long getUserId() { return userId; }
+    public String getName() { return name; }
+    public String getRole() { return role; }
+}
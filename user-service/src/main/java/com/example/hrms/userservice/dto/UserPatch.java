@@ -0,0 +1,23 @@
+package com.example.hrms.userservice.dto;
+
+/** Body of PATCH /users/{id}: null fields are left unchanged, a non-null version must match. */
+public class UserPatch {
+    private String name;
+    private String email;
+    private String role;
+    private String password;
+    private Long version;
+
+    public UserPatch() {}
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
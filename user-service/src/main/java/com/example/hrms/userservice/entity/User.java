@@ -1,9 +1,14 @@
 package com.example.hrms.userservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = "uk_users_email", columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,8 +17,16 @@ public class User {
     private String name;
     private String email;
     private String role;
+
+    // Accepted on create/update but never serialised back; stored as a bcrypt hash
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
+    // Bumped on every write; PATCH can send the version it read to reject lost updates
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+
     public User() {}
 
     public Long getId() { return id; }
@@ -26,4 +39,6 @@ public class User {
     public void setRole(String role) { this.role = role; }
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
@@ -1,7 +1,48 @@
 package com.example.hrms.userservice.repository;
 
 import com.example.hrms.userservice.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Served by the uk_users_email unique index; cached when the query cache is on (prod profile)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findByEmail(String email);
+
+    // Keyset page: rows strictly after the given id, seeking on the primary key index
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Forward-only cursor for full exports; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamAllByOrderByIdAsc();
+
+    // Partial update in one statement: null arguments keep the column. A non-null version makes it
+    // conditional, so 0 rows means the user is gone or someone else wrote first
+    @Modifying
+    @Transactional
+    @Query("update User u set u.name = coalesce(:name, u.name), u.email = coalesce(:email, u.email), "
+            + "u.role = coalesce(:role, u.role), u.password = coalesce(:password, u.password), "
+            + "u.version = u.version + 1 where u.id = :id and (:version is null or u.version = :version)")
+    int patch(@Param("id") Long id, @Param("name") String name, @Param("email") String email,
+              @Param("role") String role, @Param("password") String password, @Param("version") Long version);
+
+    @Modifying
+    @Transactional
+    @Query("delete from User u where u.id = :id")
+    int removeById(@Param("id") Long id);
 }
@@ -0,0 +1,78 @@
+package com.example.hrms.userservice.service;
+
+import com.example.hrms.userservice.entity.User;
+import com.example.hrms.userservice.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Password hashing with bcrypt. The work factor is configurable; stored hashes with a
+ * lower factor are re-hashed on the next successful login. Rows still holding plaintext
+ * from before hashing was introduced are converted once at startup.
+ */
+@Service
+public class PasswordService {
+    private static final Logger log = LoggerFactory.getLogger(PasswordService.class);
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final BCryptPasswordEncoder encoder;
+
+    // Compared against when the email is unknown, so a miss costs the same as a wrong password
+    private final String dummyHash;
+
+    public PasswordService(@Value("${hrms.auth.bcrypt-strength:10}") int strength) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.dummyHash = encoder.encode("not-a-real-password");
+    }
+
+    public String hash(String rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    public boolean matches(String rawPassword, String storedHash) {
+        if (storedHash == null || !BCRYPT.matcher(storedHash).matches()) {
+            encoder.matches(rawPassword, dummyHash);
+            return false;
+        }
+        return encoder.matches(rawPassword, storedHash);
+    }
+
+    public void burnMatch(String rawPassword) {
+        encoder.matches(rawPassword, dummyHash);
+    }
+
+    public boolean needsRehash(String storedHash) {
+        return encoder.upgradeEncoding(storedHash);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void hashLegacyPasswords() {
+        List<User> users = userRepository.findAll();
+        int converted = 0;
+        for (User user : users) {
+            String password = user.getPassword();
+            if (password != null && !BCRYPT.matcher(password).matches()) {
+                user.setPassword(hash(password));
+                converted++;
+            }
+        }
+        if (converted > 0) {
+            userRepository.saveAll(users);
+            log.info("Hashed {} plaintext password(s) left from before bcrypt was introduced", converted);
+        }
+    }
+}
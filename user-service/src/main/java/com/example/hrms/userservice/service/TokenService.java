@@ -0,0 +1,75 @@
+package com.example.hrms.userservice.service;
+
+import com.example.hrms.userservice.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Issues compact HS256 JWTs (header.payload.signature, base64url). The gateway holds the
+ * same secret and verifies tokens locally, so no request ever calls back into user-service.
+ */
+@Service
+public class TokenService {
+    private static final String HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    public TokenService(@Value("${hrms.auth.token-secret}") String secret,
+                        @Value("${hrms.auth.token-ttl:8h}") Duration ttl) {
+        if (secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("hrms.auth.token-secret must be at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.ttl = ttl;
+    }
+
+    public Instant expiryFrom(Instant issuedAt) {
+        return issuedAt.plus(ttl);
+    }
+
+    public String issue(User user, Instant issuedAt) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", String.valueOf(user.getId()));
+        claims.put("email", user.getEmail());
+        claims.put("role", user.getRole());
+        claims.put("iat", issuedAt.getEpochSecond());
+        claims.put("exp", expiryFrom(issuedAt).getEpochSecond());
+        try {
+            String signingInput = HEADER + "." + base64Url(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + base64Url(sign(signingInput));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise token claims", e);
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}